@@ -0,0 +1,145 @@
+package com.fourseasons.crowdfunding.app.entity;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大量匯入基準測試（專案圖片、投資記錄）
+ * 比較 JDBC 批次大小與每段 ID 數量的組合：批次大小 1 表示逐筆 INSERT，
+ * 每段 ID 數量 1 表示每筆 INSERT 前都要先向序列取號；
+ * 使用記憶體內 H2（MySQL 相容模式），沒有網路往返，實際 MySQL 上批次的差距會更大
+ *
+ * 執行：./gradlew jmh -PjmhIncludes=BulkImportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class BulkImportBenchmark {
+
+    /**
+     * 每次匯入的筆數
+     */
+    private static final int ROWS = 1000;
+
+    @Param({ "1", "50" })
+    private int batchSize;
+
+    @Param({ "1", "50" })
+    private int allocationSize;
+
+    private GenericApplicationContext beanContext;
+    private SessionFactory sessionFactory;
+    private Project project;
+    private User investor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 與應用程式相同：實體監聽器與 ID 產生器由 Spring Bean 容器建立，欄位名稱轉為底線命名
+        beanContext = new GenericApplicationContext();
+        beanContext.refresh();
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:bulk-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .applySetting(IdGeneration.ALLOCATION_SIZE_SETTING, allocationSize)
+                .applySetting(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanContext.getBeanFactory()))
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Role.class, User.class, ProjectCategory.class, Project.class,
+                        ProjectImage.class, Investment.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            Role role = new Role();
+            role.setName(Role.ROLE_CREATOR);
+            session.persist(role);
+
+            investor = new User();
+            investor.setUsername("bulk-import");
+            investor.setEmail("bulk-import@example.com");
+            investor.setPassword("unused");
+            investor.setRole(role);
+            session.persist(investor);
+
+            project = new Project();
+            project.setTitle("大量匯入");
+            project.setDescription("大量匯入基準測試");
+            project.setGoalAmount(new BigDecimal("1000000"));
+            project.setCreator(investor);
+            project.setStartDate(LocalDateTime.now());
+            project.setEndDate(LocalDateTime.now().plusDays(30));
+            session.persist(project);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        beanContext.close();
+    }
+
+    /**
+     * 在一個交易內新增 {@link #ROWS} 張專案圖片
+     */
+    @Benchmark
+    public void importImages() {
+        sessionFactory.inTransaction(session -> {
+            Project owner = session.getReference(Project.class, project.getId());
+            for (int i = 0; i < ROWS; i++) {
+                ProjectImage image = new ProjectImage();
+                image.setProject(owner);
+                image.setImageUrl("https://example.com/images/" + i + ".png");
+                image.setSortOrder(i);
+                session.persist(image);
+            }
+        });
+    }
+
+    /**
+     * 在一個交易內新增 {@link #ROWS} 筆投資記錄
+     */
+    @Benchmark
+    public void importInvestments() {
+        sessionFactory.inTransaction(session -> {
+            Project target = session.getReference(Project.class, project.getId());
+            User user = session.getReference(User.class, investor.getId());
+            for (int i = 0; i < ROWS; i++) {
+                Investment investment = new Investment();
+                investment.setPledgeId(UUID.randomUUID().toString());
+                investment.setAmount(new BigDecimal("100.00"));
+                investment.setProject(target);
+                investment.setInvestor(user);
+                session.persist(investment);
+            }
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每個請求的 Token 驗證成本基準測試
+ * 比較認證過濾器改寫前的流程（isTokenValid、extractUsername、validateToken，共解析四次）
+ * 與目前的單次解析（verifyToken 一次取得簽章、過期時間與所有聲明）
+ *
+ * 執行：./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtUtils jwtUtils;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtils = new JwtUtils();
+        setField(jwtUtils, "secret", SECRET);
+        setField(jwtUtils, "expiration", TimeUnit.HOURS.toMillis(1));
+        setField(jwtUtils, "keyId", "v1");
+        setField(jwtUtils, "activeKeyId", "v1");
+        setField(jwtUtils, "legacyKeyId", "v1");
+        jwtUtils.init();
+
+        userDetails = User.withUsername("benchmark-user").password("unused").roles("USER").build();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtUtils.CLAIM_USER_ID, 42L);
+        claims.put(JwtUtils.CLAIM_ROLE, "USER");
+        token = jwtUtils.generateToken(userDetails, claims);
+    }
+
+    /**
+     * 改寫前：驗證格式、取使用者名稱、再比對使用者名稱與過期時間
+     */
+    @Benchmark
+    public boolean fourParses() {
+        return jwtUtils.isTokenValid(token)
+                && jwtUtils.extractUsername(token) != null
+                && jwtUtils.validateToken(token, userDetails);
+    }
+
+    /**
+     * 改寫後：一次解析取得已驗證的聲明快照
+     */
+    @Benchmark
+    public Optional<JwtClaims> singleParse() {
+        return jwtUtils.verifyToken(token);
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 密碼雜湊成本基準測試
+ * 以取樣模式量測單次密碼比對的延遲分佈（含 p99），執行緒數等於 CPU 核心數，
+ * 對應密碼驗證執行緒池滿載時每次登入的雜湊耗時；用來挑選符合登入延遲目標的成本參數
+ *
+ * 執行：./gradlew jmh -PjmhIncludes=PasswordEncoderBenchmark
+ * 參數格式：bcrypt:強度 或 argon2:記憶體KB:迭代次數:平行度
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({
+            "bcrypt:10",
+            "bcrypt:11",
+            "bcrypt:12",
+            "bcrypt:13",
+            "argon2:16384:2:1",
+            "argon2:19456:2:1",
+            "argon2:65536:3:1"
+    })
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        String[] parts = encoder.split(":");
+        if ("bcrypt".equals(parts[0])) {
+            passwordEncoder = new BCryptPasswordEncoder(Integer.parseInt(parts[1]));
+        } else {
+            passwordEncoder = new Argon2PasswordEncoder(16, 32, Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        }
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    /**
+     * 登入時的密碼比對
+     */
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
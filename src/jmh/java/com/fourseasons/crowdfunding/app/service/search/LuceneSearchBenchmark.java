@@ -0,0 +1,152 @@
+package com.fourseasons.crowdfunding.app.service.search;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectIndexEntry;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lucene 專案搜尋基準測試（100 萬筆專案）
+ * 以合成資料取代資料庫：儲存庫代理依 ID 續查回傳索引投影，載入搜尋結果時回傳空列表，
+ * 因此只量測索引建立與索引查詢本身的成本，不含資料庫往返
+ *
+ * 執行：./gradlew jmh -PjmhIncludes=LuceneSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LuceneSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "環保", "科技", "音樂", "電影", "遊戲", "設計", "教育", "農業",
+            "寵物", "旅行", "咖啡", "手作", "攝影", "出版", "公益", "運動"
+    };
+
+    @Param({ "1000000" })
+    private int projects;
+
+    /**
+     * 常見詞、兩個詞同時出現、查無結果
+     */
+    @Param({ "咖啡", "咖啡手作", "不存在的詞" })
+    private String keyword;
+
+    private LuceneProjectSearchEngine engine;
+
+    @Setup
+    public void setUp() throws IOException {
+        engine = newEngine(projects);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        engine.close();
+    }
+
+    /**
+     * 搜尋結果總數
+     */
+    @Benchmark
+    public long count() {
+        return engine.count(keyword, null, Project.ProjectStatus.APPROVED);
+    }
+
+    /**
+     * 游標分頁第一頁（依建立時間排序）
+     */
+    @Benchmark
+    public Slice<ProjectSummary> firstPage() {
+        return engine.searchByCursor(keyword, null, Project.ProjectStatus.APPROVED, null, Sort.Direction.DESC, 20);
+    }
+
+    /**
+     * 啟動時以 ID 續查分批建立完整索引
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void buildIndex() throws IOException {
+        newEngine(projects).close();
+    }
+
+    private static LuceneProjectSearchEngine newEngine(int projects) throws IOException {
+        ProjectRepository repository = syntheticRepository(projects);
+        LuceneProjectSearchEngine engine = new LuceneProjectSearchEngine(repository,
+                new RankedProjectLoader(repository));
+        engine.init();
+        return engine;
+    }
+
+    /**
+     * 以合成資料回應索引載入查詢的儲存庫代理；每筆專案的內容由 ID 決定，重建索引時資料相同
+     */
+    private static ProjectRepository syntheticRepository(int projects) {
+        LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Project.ProjectStatus[] statuses = Project.ProjectStatus.values();
+        return (ProjectRepository) Proxy.newProxyInstance(ProjectRepository.class.getClassLoader(),
+                new Class<?>[] { ProjectRepository.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findIndexEntriesAfter": {
+                            long afterId = (Long) args[0];
+                            int size = ((Pageable) args[1]).getPageSize();
+                            List<ProjectIndexEntry> batch = new ArrayList<>(size);
+                            for (long id = afterId + 1; id <= projects && batch.size() < size; id++) {
+                                Random random = new Random(id);
+                                batch.add(new ProjectIndexEntry(id,
+                                        words(random, 3) + " " + id,
+                                        words(random, 12),
+                                        id % 10 == 0 ? statuses[random.nextInt(statuses.length)]
+                                                : Project.ProjectStatus.APPROVED,
+                                        (long) random.nextInt(20) + 1,
+                                        baseTime.plusSeconds(id * 30)));
+                            }
+                            return batch;
+                        }
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "SyntheticProjectRepository";
+                        default:
+                            return List.of();
+                    }
+                });
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
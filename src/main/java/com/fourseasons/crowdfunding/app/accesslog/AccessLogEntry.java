@@ -0,0 +1,24 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 單筆存取日誌
+ * 請求執行緒只收集原始值，時間與 JSON 格式化都交由背景寫入執行緒處理
+ */
+@Getter
+@AllArgsConstructor
+public final class AccessLogEntry {
+
+    private final long timestampMillis;
+    private final String method;
+    private final String route;
+    private final String path;
+    private final int status;
+    private final long durationMicros;
+    private final int dbStatements;
+    private final long dbMicros;
+    private final Long userId;
+    private final String clientIp;
+}
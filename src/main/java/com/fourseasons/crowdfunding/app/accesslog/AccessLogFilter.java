@@ -0,0 +1,89 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import com.fourseasons.crowdfunding.app.metrics.RequestDbStats;
+import com.fourseasons.crowdfunding.app.metrics.SqlBudget;
+import com.fourseasons.crowdfunding.app.security.CurrentUser;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 存取日誌過濾器
+ * 在 {@link com.fourseasons.crowdfunding.app.metrics.RequestMetricsFilter} 之內、Spring Security 過濾器鏈之外執行，
+ * 安全鏈直接回應的 401/403（未登入、權限不足）與一般請求一樣經過取樣並寫入存取日誌；
+ * 請求結束（非同步請求為最後一次分派結束）後交由 {@link AccessLogWriter} 非同步寫入，不在請求執行緒格式化或輸出；
+ * 超出 SQL 預算（sql.budget.*）的請求不經取樣一律記錄
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    /** 記錄的路徑前綴 */
+    private static final String API_PREFIX = "/api/";
+
+    private final AccessLogWriter accessLogWriter;
+    private final CurrentUserContext currentUserContext;
+    private final SqlBudget sqlBudget;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+    }
+
+    /**
+     * 非同步請求（登入、投資）在最後一次 ASYNC 分派結束時才記錄
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                record(request, response, failed);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, boolean failed) {
+        RequestDbStats stats = RequestDbStats.of(request);
+        long durationMicros = stats != null ? TimeUnit.NANOSECONDS.toMicros(stats.elapsedNanos()) : -1;
+        int status = response.getStatus();
+        boolean overBudget = stats != null && sqlBudget.isExceeded(stats);
+        if (!accessLogWriter.shouldLog(status, failed, durationMicros, overBudget)) {
+            return;
+        }
+
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        accessLogWriter.append(new AccessLogEntry(
+                System.currentTimeMillis(),
+                request.getMethod(),
+                route != null ? route.toString() : null,
+                request.getRequestURI(),
+                failed && status < 400 ? 500 : status,
+                durationMicros,
+                stats != null ? stats.getStatements() : 0,
+                stats != null ? TimeUnit.NANOSECONDS.toMicros(stats.getDbNanos()) : 0,
+                currentUserContext.find(request).map(CurrentUser::getId).orElse(null),
+                request.getRemoteAddr()));
+    }
+}
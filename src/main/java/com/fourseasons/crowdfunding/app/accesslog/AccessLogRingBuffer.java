@@ -0,0 +1,91 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 存取日誌環狀緩衝區（多生產者、單一消費者，無鎖）
+ * 每個槽位帶有序號：生產者以 CAS 取得寫入位置，寫入後發布序號；消費者依序號判斷槽位是否可讀。
+ * 緩衝區滿時 {@link #offer} 直接回傳 false，請求執行緒不等待
+ */
+final class AccessLogRingBuffer {
+
+    private final AccessLogEntry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 消費者位置（只由背景寫入執行緒存取）
+     */
+    private volatile long head;
+
+    /**
+     * @param capacity 容量（向上取至 2 的次方）
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.entries = new AccessLogEntry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 放入一筆日誌（任何執行緒）
+     *
+     * @param entry 日誌
+     * @return 緩衝區已滿時為 false
+     */
+    boolean offer(AccessLogEntry entry) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entries[index] = entry;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 取出一筆日誌（只限背景寫入執行緒）
+     *
+     * @return 日誌，緩衝區為空時為 null
+     */
+    AccessLogEntry poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        AccessLogEntry entry = entries[index];
+        entries[index] = null;
+        sequences.set(index, head + entries.length);
+        head++;
+        return entry;
+    }
+
+    /**
+     * 目前待寫入的筆數（近似值）
+     *
+     * @return 筆數
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,200 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 非同步存取日誌
+ * 請求執行緒只做取樣判斷並放入無鎖環狀緩衝區；背景執行緒批次取出、格式化為單行 JSON 並寫入輪替檔案。
+ * 錯誤（4xx/5xx）與慢請求一律記錄，其餘請求依取樣率記錄；緩衝區滿時丟棄並計數，不阻塞請求
+ */
+@Component
+@Slf4j
+public class AccessLogWriter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${access-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${access-log.file:logs/access.log}")
+    private String file;
+
+    @Value("${access-log.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${access-log.slow-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Value("${access-log.buffer-size:8192}")
+    private int bufferSize;
+
+    @Value("${access-log.max-file-size:100MB}")
+    private DataSize maxFileSize;
+
+    @Value("${access-log.max-history:7}")
+    private int maxHistory;
+
+    private AccessLogRingBuffer buffer;
+    private RollingFileSink sink;
+    private Thread drainer;
+    private volatile boolean running;
+    private Counter dropped;
+    private long slowMicros;
+
+    @PostConstruct
+    void init() throws IOException {
+        this.slowMicros = TimeUnit.NANOSECONDS.toMicros(slowThreshold.toNanos());
+        if (!enabled) {
+            return;
+        }
+        this.buffer = new AccessLogRingBuffer(bufferSize);
+        this.sink = new RollingFileSink(Path.of(file), maxFileSize.toBytes(), maxHistory);
+        this.dropped = Counter.builder("access_log.dropped")
+                .description("緩衝區已滿而丟棄的存取日誌筆數")
+                .register(meterRegistry);
+        Gauge.builder("access_log.buffer.depth", buffer, AccessLogRingBuffer::size)
+                .description("等待寫入的存取日誌筆數")
+                .register(meterRegistry);
+
+        running = true;
+        drainer = new Thread(this::drain, "access-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException, IOException {
+        if (drainer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        drainer.join(TimeUnit.SECONDS.toMillis(5));
+        sink.close();
+    }
+
+    /**
+     * 是否應記錄此請求（錯誤、慢請求與超出 SQL 預算的請求一律記錄，其餘依取樣率）
+     *
+     * @param status         HTTP 狀態碼
+     * @param failed         是否拋出例外
+     * @param durationMicros 耗時（微秒）
+     * @param overSqlBudget  是否超出 SQL 預算
+     * @return 是否記錄
+     */
+    public boolean shouldLog(int status, boolean failed, long durationMicros, boolean overSqlBudget) {
+        if (!enabled) {
+            return false;
+        }
+        if (failed || overSqlBudget || status >= 400 || durationMicros >= slowMicros) {
+            return true;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * 放入緩衝區（不阻塞）
+     *
+     * @param entry 存取日誌
+     */
+    public void append(AccessLogEntry entry) {
+        if (enabled && !buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 背景寫入迴圈：有資料時批次寫入，沒有資料時刷新檔案並短暫休眠
+     */
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        while (running || buffer.size() > 0) {
+            AccessLogEntry entry = buffer.poll();
+            try {
+                if (entry == null) {
+                    sink.flush();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+                    continue;
+                }
+                line.setLength(0);
+                format(entry, line);
+                sink.write(line);
+            } catch (IOException | RuntimeException e) {
+                log.warn("寫入存取日誌失敗", e);
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        try {
+            sink.flush();
+        } catch (IOException e) {
+            log.warn("寫入存取日誌失敗", e);
+        }
+    }
+
+    /**
+     * 格式化為單行 JSON
+     */
+    static void format(AccessLogEntry entry, StringBuilder out) {
+        out.append("{\"ts\":\"").append(Instant.ofEpochMilli(entry.getTimestampMillis())).append('"');
+        out.append(",\"method\":");
+        appendString(out, entry.getMethod());
+        out.append(",\"route\":");
+        appendString(out, entry.getRoute());
+        out.append(",\"path\":");
+        appendString(out, entry.getPath());
+        out.append(",\"status\":").append(entry.getStatus());
+        out.append(",\"us\":").append(entry.getDurationMicros());
+        out.append(",\"sql\":").append(entry.getDbStatements());
+        out.append(",\"db_us\":").append(entry.getDbMicros());
+        if (entry.getUserId() != null) {
+            out.append(",\"user\":").append(entry.getUserId());
+        }
+        out.append(",\"ip\":");
+        appendString(out, entry.getClientIp());
+        out.append("}\n");
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
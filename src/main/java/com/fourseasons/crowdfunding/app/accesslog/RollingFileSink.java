@@ -0,0 +1,125 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 依日期與大小輪替的日誌檔（只由背景寫入執行緒使用，非執行緒安全）
+ * 目前檔案為 access.log，輪替後改名為 access.yyyy-MM-dd.N.log，只保留最近 maxHistory 個輪替檔
+ */
+final class RollingFileSink implements AutoCloseable {
+
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final String baseName;
+    private final String extension;
+
+    private BufferedWriter writer;
+    private long size;
+    private LocalDate date;
+
+    RollingFileSink(Path file, long maxFileSize, int maxHistory) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        String fileName = this.file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        this.extension = dot > 0 ? fileName.substring(dot) : "";
+        open();
+    }
+
+    /**
+     * 寫入一行（呼叫端負責換行字元）
+     */
+    void write(CharSequence line) throws IOException {
+        if (size >= maxFileSize || !LocalDate.now().equals(date)) {
+            roll();
+        }
+        writer.append(line);
+        // 只記錄字元數，以 ASCII 為主的日誌與位元組數相近
+        size += line.length();
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(file.getParent());
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+        date = size > 0 ? LocalDate.ofInstant(Files.getLastModifiedTime(file).toInstant(),
+                ZoneId.systemDefault()) : LocalDate.now();
+    }
+
+    /**
+     * 輪替目前檔案；改名失敗時仍重新開啟檔案繼續寫入，並延後到下一個 maxFileSize 再嘗試，
+     * 避免寫入器停在關閉狀態使之後每一筆都失敗
+     */
+    private void roll() throws IOException {
+        writer.close();
+        boolean rolled = false;
+        try {
+            if (Files.exists(file) && Files.size(file) > 0) {
+                int index = 0;
+                Path target;
+                do {
+                    target = file.resolveSibling(baseName + "." + date + "." + index++ + extension);
+                } while (Files.exists(target));
+                Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            rolled = true;
+        } finally {
+            open();
+            date = LocalDate.now();
+            if (!rolled) {
+                size = 0;
+            }
+        }
+        deleteExpired();
+    }
+
+    private void deleteExpired() throws IOException {
+        List<Path> rolled = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(file.getParent(), baseName + ".*" + extension)) {
+            for (Path path : stream) {
+                if (!path.equals(file)) {
+                    rolled.add(path);
+                }
+            }
+        }
+        if (rolled.size() <= maxHistory) {
+            return;
+        }
+        rolled.sort(Comparator.comparing(path -> {
+            try {
+                return Files.getLastModifiedTime(path);
+            } catch (IOException e) {
+                return FileTime.fromMillis(0);
+            }
+        }));
+        for (Path path : rolled.subList(0, rolled.size() - maxHistory)) {
+            Files.deleteIfExists(path);
+        }
+    }
+}
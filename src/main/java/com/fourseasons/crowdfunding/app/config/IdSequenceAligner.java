@@ -0,0 +1,99 @@
+package com.fourseasons.crowdfunding.app.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ID 序列校正器
+ * 既有資料表原本使用 AUTO_INCREMENT，改用序列資料表後需要在任何寫入之前
+ * 將序列推進到現有最大 ID 之後，避免新 ID 與舊資料衝突
+ *
+ * 在 EntityManagerFactory 初始化完成（ddl-auto 已建立序列資料表）、交給任何 Repository、
+ * 服務或背景執行緒使用之前執行；校正失敗時中止啟動，不以錯位的序列提供服務
+ */
+@Component
+public class IdSequenceAligner implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    /**
+     * 序列資料表、實體資料表、ID 欄位
+     */
+    private static final String[][] SEQUENCES = {
+            { "roles_seq", "roles", "role_id" },
+            { "users_seq", "users", "user_id" },
+            { "project_categories_seq", "project_categories", "category_id" },
+            { "projects_seq", "projects", "project_id" },
+            { "project_images_seq", "project_images", "image_id" },
+            { "investments_seq", "investments", "investment_id" }
+    };
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    public IdSequenceAligner(ObjectProvider<DataSource> dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof EntityManagerFactory) {
+            align(new JdbcTemplate(dataSource.getObject()));
+        }
+        return bean;
+    }
+
+    /**
+     * 將每個序列推進到對應資料表的最大 ID 之後
+     *
+     * @param jdbcTemplate JDBC 操作
+     * @throws IllegalStateException 序列資料表存在但無法校正時（權限、鎖等待逾時、資料表名稱錯誤等）
+     */
+    void align(JdbcTemplate jdbcTemplate) {
+        for (String[] sequence : SEQUENCES) {
+            // 支援原生序列的資料庫不會有序列資料表
+            if (!Boolean.TRUE.equals(jdbcTemplate.execute(tableExists(sequence[0])))) {
+                logger.debug("略過 ID 序列校正 {}：序列資料表不存在", sequence[0]);
+                continue;
+            }
+            try {
+                int updated = jdbcTemplate.update(String.format(
+                        "UPDATE %s SET next_val = (SELECT COALESCE(MAX(%s), 0) + 1 FROM %s) " +
+                                "WHERE next_val <= (SELECT COALESCE(MAX(%s), 0) FROM %s)",
+                        sequence[0], sequence[2], sequence[1], sequence[2], sequence[1]));
+                if (updated > 0) {
+                    logger.info("ID 序列 {} 已校正至資料表 {} 的最大 ID 之後", sequence[0], sequence[1]);
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("無法校正 ID 序列 " + sequence[0], e);
+            }
+        }
+    }
+
+    /**
+     * 以 JDBC 中繼資料檢查資料表是否存在（依資料庫的識別字大小寫規則比對）
+     */
+    private static ConnectionCallback<Boolean> tableExists(String table) {
+        return connection -> exists(connection, table)
+                || exists(connection, table.toUpperCase())
+                || exists(connection, table.toLowerCase());
+    }
+
+    private static boolean exists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, table, new String[] { "TABLE" })) {
+            return tables.next();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.fourseasons.crowdfunding.app.config;
 
 import com.fourseasons.crowdfunding.app.security.JwtAuthenticationFilter;
+import com.fourseasons.crowdfunding.app.security.ScrapeTokenAuthenticationFilter;
 import com.fourseasons.crowdfunding.app.service.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,7 +14,9 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -21,6 +25,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Spring Security 配置類
@@ -31,17 +37,64 @@ import java.util.Arrays;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /** BCrypt 編碼識別碼 */
+    public static final String ENCODER_BCRYPT = "bcrypt";
+
+    /** Argon2id 編碼識別碼 */
+    public static final String ENCODER_ARGON2 = "argon2";
+
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Value("${auth.password.encoder:" + ENCODER_BCRYPT + "}")
+    private String passwordEncoderId;
+
+    @Value("${auth.password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${auth.password.argon2.memory-kb:16384}")
+    private int argon2MemoryKb;
+
+    @Value("${auth.password.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${auth.password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    /**
+     * Prometheus 靜態抓取憑證；空白表示不啟用，只能以管理員 JWT 抓取
+     */
+    @Value("${metrics.scrape-token:}")
+    private String scrapeToken;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
     }
 
+    /**
+     * 密碼編碼器
+     * 新密碼以 auth.password.encoder 指定的演算法與成本參數編碼，雜湊前綴記錄演算法（例如 {bcrypt}）；
+     * 比對時依前綴選擇演算法，沒有前綴的舊雜湊視為 BCrypt。
+     * 目前演算法為 BCrypt 時，沒有前綴且強度不低於設定的舊雜湊不重新雜湊，只有演算法或成本參數過時才升級
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(ENCODER_BCRYPT, bcrypt);
+        encoders.put(ENCODER_ARGON2, new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKb,
+                argon2Iterations));
+        if (!encoders.containsKey(passwordEncoderId)) {
+            throw new IllegalStateException("不支援的密碼編碼器: " + passwordEncoderId);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(passwordEncoderId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        if (!ENCODER_BCRYPT.equals(passwordEncoderId)) {
+            return delegating;
+        }
+        return new LegacyBcryptAwarePasswordEncoder(delegating, bcrypt);
     }
 
     @Bean
@@ -49,6 +102,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // 登入成功且雜湊的演算法或成本參數已過時時，以目前設定重新雜湊
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -59,6 +114,13 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // 靜態抓取憑證不是 JWT，由獨立過濾器在 JWT 過濾器之前認證
+        // （同順位的過濾器依加入順序執行；不註冊為 Bean，避免同時成為一般 Servlet 過濾器）
+        if (!scrapeToken.isBlank()) {
+            http.addFilterBefore(new ScrapeTokenAuthenticationFilter(scrapeToken),
+                    UsernamePasswordAuthenticationFilter.class);
+        }
+
         http
                 // 禁用 CSRF（因為使用 JWT）
                 .csrf(csrf -> csrf.disable())
@@ -85,7 +147,14 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
                         .requestMatchers("/error").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+
+                        // 指標抓取：管理員或持有靜態抓取憑證的 Prometheus
+                        .requestMatchers(ScrapeTokenAuthenticationFilter.SCRAPE_PATH)
+                        .hasAnyRole("ADMIN", ScrapeTokenAuthenticationFilter.ROLE_METRICS)
+
+                        // 其他監控端點（指標、快取、連線池、登入限流與鎖定統計等）僅限管理員
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // 需要認證的端點
                         .requestMatchers("/api/user/**").authenticated()
@@ -127,4 +196,37 @@ public class SecurityConfig {
 
         return source;
     }
+
+    /**
+     * DelegatingPasswordEncoder 對所有沒有 {id} 前綴的雜湊都回報需要升級；
+     * 目前演算法即為 BCrypt 時，改由 BCrypt 依強度判斷，避免每個舊使用者首次登入都重寫密碼並清除快取
+     */
+    private static final class LegacyBcryptAwarePasswordEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegating;
+        private final BCryptPasswordEncoder bcrypt;
+
+        private LegacyBcryptAwarePasswordEncoder(PasswordEncoder delegating, BCryptPasswordEncoder bcrypt) {
+            this.delegating = delegating;
+            this.bcrypt = bcrypt;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegating.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return delegating.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            if (encodedPassword != null && !encodedPassword.startsWith("{")) {
+                return bcrypt.upgradeEncoding(encodedPassword);
+            }
+            return delegating.upgradeEncoding(encodedPassword);
+        }
+    }
 }
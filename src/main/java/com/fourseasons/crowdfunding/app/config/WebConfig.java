@@ -1,25 +0,0 @@
-package com.fourseasons.crowdfunding.app.config;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-/**
- * Web 配置類別
- * 用於註冊攔截器和其他 Web 相關配置
- */
-@Configuration
-@RequiredArgsConstructor
-public class WebConfig implements WebMvcConfigurer {
-
-    private final LoggingInterceptor loggingInterceptor;
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        // 註冊日誌攔截器，應用於所有 API 路徑
-        registry.addInterceptor(loggingInterceptor)
-                .addPathPatterns("/api/**")
-                .excludePathPatterns("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html");
-    }
-}
@@ -3,6 +3,7 @@ package com.fourseasons.crowdfunding.app.controller;
 import com.fourseasons.crowdfunding.app.dto.auth.AuthResponse;
 import com.fourseasons.crowdfunding.app.dto.auth.LoginRequest;
 import com.fourseasons.crowdfunding.app.dto.auth.RegisterRequest;
+import com.fourseasons.crowdfunding.app.security.JwtUtils;
 import com.fourseasons.crowdfunding.app.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 認證控制器 提供使用者註冊、登入、登出等 API 端點
@@ -30,6 +33,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private JwtUtils jwtUtils;
+
     /**
      * 使用者註冊
      * 
@@ -49,28 +55,32 @@ public class AuthController {
      * 使用者登入
      * 
      * @param loginRequest 登入請求
+     * @param request      HTTP 請求（取得來源 IP；經反向代理時由 server.forward-headers-strategy 還原為用戶端 IP）
      * @return 認證回應
      */
     @PostMapping("/login")
     @Operation(summary = "使用者登入", description = "驗證使用者憑證並返回 JWT Token")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "登入成功", content = @Content(schema = @Schema(implementation = AuthResponse.class))) })
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        AuthResponse response = authService.login(loginRequest);
-        return ResponseEntity.ok(response);
+            @ApiResponse(responseCode = "200", description = "登入成功", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+            @ApiResponse(responseCode = "429", description = "登入嘗試過於頻繁或系統忙碌，請稍後再試") })
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request) {
+        return authService.login(loginRequest, request.getRemoteAddr()).thenApply(ResponseEntity::ok);
     }
 
     /**
      * 使用者登出
      * 
+     * @param authorization Authorization 標頭
      * @return 登出成功訊息
      */
     @PostMapping("/logout")
-    @Operation(summary = "使用者登出", description = "清除使用者的認證狀態")
+    @Operation(summary = "使用者登出", description = "清除使用者的認證狀態並撤銷目前的 Token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "登出成功") })
-    public ResponseEntity<Map<String, String>> logout() {
-        authService.logout();
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        authService.logout(jwtUtils.parseBearerToken(authorization));
 
         Map<String, String> response = new HashMap<>();
         response.put("message", "登出成功");
@@ -0,0 +1,77 @@
+package com.fourseasons.crowdfunding.app.controller;
+
+import com.fourseasons.crowdfunding.app.dto.investment.PledgeRequest;
+import com.fourseasons.crowdfunding.app.dto.investment.PledgeResponse;
+import com.fourseasons.crowdfunding.app.service.PledgePipeline;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 投資控制器
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "投資管理", description = "專案投資相關 API")
+@SecurityRequirement(name = "Bearer Authentication")
+public class InvestmentController {
+
+        private final PledgePipeline pledgePipeline;
+
+        /**
+         * 投資專案
+         * 
+         * @param projectId 專案 ID
+         * @param request   投資請求
+         * @return 投資回應（COMMIT 模式為 201，ENQUEUE 模式為 202）
+         */
+        @PostMapping("/projects/{projectId}/pledges")
+        @Operation(summary = "投資專案", description = "對進行中的專案進行投資")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "投資成功", content = @Content(schema = @Schema(implementation = PledgeResponse.class))),
+                        @ApiResponse(responseCode = "202", description = "投資已受理，處理中", content = @Content(schema = @Schema(implementation = PledgeResponse.class))),
+                        @ApiResponse(responseCode = "429", description = "系統忙碌，請稍後再試") })
+        public CompletableFuture<ResponseEntity<PledgeResponse>> pledge(
+                        @Parameter(name = "projectId", description = "專案 ID", example = "1", required = true) @PathVariable Long projectId,
+                        @Valid @RequestBody PledgeRequest request) {
+                PledgePipeline.PendingPledge pledge = pledgePipeline.submit(projectId, request.getAmount());
+
+                if (pledgePipeline.getDurability() == PledgePipeline.Durability.ENQUEUE) {
+                        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.ACCEPTED)
+                                        .body(PledgeResponse.accepted(pledge.getPledgeId(), projectId, request.getAmount())));
+                }
+
+                return pledge.getFuture().thenApply(investment -> ResponseEntity.status(HttpStatus.CREATED)
+                                .body(PledgeResponse.fromInvestment(investment, projectId)));
+        }
+
+        /**
+         * 查詢投資處理結果
+         * 
+         * @param pledgeId 投資請求 ID
+         * @return 投資回應
+         */
+        @GetMapping("/pledges/{pledgeId}")
+        @Operation(summary = "查詢投資結果", description = "根據投資請求 ID 查詢處理結果；寫入失敗時狀態為 REJECTED")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "查詢成功", content = @Content(schema = @Schema(implementation = PledgeResponse.class))),
+                        @ApiResponse(responseCode = "404", description = "投資記錄不存在或仍在處理中") })
+        public ResponseEntity<PledgeResponse> getPledge(
+                        @Parameter(name = "pledgeId", description = "投資請求 ID", required = true) @PathVariable String pledgeId) {
+                PledgeResponse response = pledgePipeline.getPledge(pledgeId);
+                return ResponseEntity.ok(response);
+        }
+}
@@ -1,11 +1,14 @@
 package com.fourseasons.crowdfunding.app.controller;
 
+import com.fourseasons.crowdfunding.app.dto.common.ResourceVersion;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectCategoryResponse;
 import com.fourseasons.crowdfunding.app.entity.ProjectCategory;
 import com.fourseasons.crowdfunding.app.service.ProjectCategoryService;
+import com.fourseasons.crowdfunding.app.service.cache.CategoryCatalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +17,7 @@ import java.util.List;
 
 /**
  * 專案分類控制器
+ * 查詢端點支援條件式 GET（ETag / Last-Modified），內容未變更時回應 304
  */
 @RestController
 @RequestMapping("/api/categories")
@@ -31,8 +35,12 @@ public class ProjectCategoryController {
     @GetMapping
     @Operation(summary = "獲取所有啟用的分類", description = "獲取所有啟用的專案分類")
     public ResponseEntity<List<ProjectCategoryResponse>> getAllCategories() {
-        List<ProjectCategoryResponse> categories = categoryService.getAllActiveCategories();
-        return ResponseEntity.ok(categories);
+        CategoryCatalog.Snapshot catalog = categoryService.getCatalog();
+        // 版本與 If-None-Match 相符時由框架回應 304 且不序列化內容
+        return ResponseEntity.ok()
+                .eTag(catalog.getActiveVersion())
+                .cacheControl(CacheControl.noCache())
+                .body(catalog.getActiveCategories());
     }
 
     /**
@@ -45,7 +53,11 @@ public class ProjectCategoryController {
     @Operation(summary = "根據ID獲取分類", description = "根據分類ID獲取詳細資訊")
     public ResponseEntity<ProjectCategoryResponse> getCategoryById(@PathVariable Long categoryId) {
         ProjectCategoryResponse category = categoryService.getCategoryById(categoryId);
-        return ResponseEntity.ok(category);
+        return ResponseEntity.ok()
+                .eTag(ResourceVersion.of(categoryId, category.getUpdatedAt()))
+                .lastModified(ResourceVersion.lastModified(category.getUpdatedAt()))
+                .cacheControl(CacheControl.noCache())
+                .body(category);
     }
 
     /**
@@ -1,10 +1,15 @@
 package com.fourseasons.crowdfunding.app.controller;
 
+import com.fourseasons.crowdfunding.app.dto.common.CountMode;
+import com.fourseasons.crowdfunding.app.dto.common.CursorPage;
+import com.fourseasons.crowdfunding.app.dto.common.ResourceVersion;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectRequest;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectResponse;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectStatusRequest;
 import com.fourseasons.crowdfunding.app.entity.Project;
 import com.fourseasons.crowdfunding.app.service.ProjectService;
+import com.fourseasons.crowdfunding.app.service.cache.CachedProjectPage;
+import com.fourseasons.crowdfunding.app.service.cache.CategoryCatalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,17 +21,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * 專案控制器
+ * 公開查詢端點支援條件式 GET：回應附上 ETag（單筆另附 Last-Modified），
+ * 用戶端帶 If-None-Match / If-Modified-Since 且內容未變更時回應 304 且不輸出內容
  */
 @RestController
 @RequestMapping("/api/projects")
@@ -35,7 +47,13 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class ProjectController {
 
+        /**
+         * 游標分頁每頁筆數上限，超過時以上限計算，避免單次請求取回整張表
+         */
+        static final int MAX_CURSOR_PAGE_SIZE = 100;
+
         private final ProjectService projectService;
+        private final CategoryCatalog categoryCatalog;
 
         /**
          * 創建專案
@@ -91,8 +109,11 @@ public class ProjectController {
 
         /**
          * 查詢單一專案
+         * 已核准的專案先以主鍵查詢版本，未變更時直接回應 304，不載入專案與關聯；
+         * 回應內嵌分類資訊，ETag 與 Last-Modified 一併反映分類目錄的版本
          * 
-         * @param id 專案 ID
+         * @param id         專案 ID
+         * @param webRequest 請求（條件式 GET 標頭）
          * @return 專案回應
          */
         @GetMapping("/{id}")
@@ -100,9 +121,25 @@ public class ProjectController {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "查詢成功", content = @Content(schema = @Schema(implementation = ProjectResponse.class))) })
         public ResponseEntity<ProjectResponse> getProject(
-                        @Parameter(name = "id", description = "專案 ID", example = "1", required = true) @PathVariable Long id) {
+                        @Parameter(name = "id", description = "專案 ID", example = "1", required = true) @PathVariable Long id,
+                        WebRequest webRequest) {
+                CategoryCatalog.Snapshot categories = categoryCatalog.current();
+                LocalDateTime publicVersion = projectService.getPublicProjectVersion(id);
+                if (publicVersion != null) {
+                        String etag = ResourceVersion.of(id, publicVersion, categories.getCatalogVersion());
+                        if (webRequest.checkNotModified(etag,
+                                        ResourceVersion.lastModified(publicVersion, categories.getLastUpdatedAt()))) {
+                                return notModified(etag);
+                        }
+                }
+
                 ProjectResponse response = projectService.getProjectById(id);
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok()
+                                .eTag(ResourceVersion.of(id, response.getUpdatedAt(), categories.getCatalogVersion()))
+                                .lastModified(ResourceVersion.lastModified(response.getUpdatedAt(),
+                                                categories.getLastUpdatedAt()))
+                                .cacheControl(CacheControl.noCache())
+                                .body(response);
         }
 
         /**
@@ -162,7 +199,36 @@ public class ProjectController {
                                 : Sort.by(sortBy).descending();
                 Pageable pageable = PageRequest.of(page, size, sort);
 
-                Page<ProjectResponse> projects = projectService.getPublicProjects(keyword, pageable);
+                CachedProjectPage projects = projectService.getPublicProjectPage(keyword, pageable);
+                return versioned(projects, new PageImpl<>(projects.getContent(), pageable, projects.getTotalElements()));
+        }
+
+        /**
+         * 以游標分頁查詢公開專案列表
+         * 
+         * @param keyword 搜尋關鍵字
+         * @param cursor  上一頁回傳的游標
+         * @param size    每頁大小
+         * @param sortDir 建立時間排序方向
+         * @param count   總數計算方式
+         * @return 游標分頁回應
+         */
+        @GetMapping("/cursor")
+        @Operation(summary = "游標分頁查詢公開專案", description = "以游標續查已核准的公開專案，深層分頁效能不衰減")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "查詢成功"),
+                        @ApiResponse(responseCode = "400", description = "游標無效，或與目前的排序方向、查詢條件不符") })
+        public ResponseEntity<CursorPage<ProjectResponse>> getPublicProjectsByCursor(
+                        @Parameter(description = "搜尋關鍵字") @RequestParam(required = false) String keyword,
+                        @Parameter(description = "上一頁回傳的游標") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "每頁大小，上限 " + MAX_CURSOR_PAGE_SIZE) @RequestParam(defaultValue = "10") int size,
+                        @Parameter(description = "排序方向") @RequestParam(defaultValue = "desc") String sortDir,
+                        @Parameter(description = "總數計算方式") @RequestParam(defaultValue = "NONE") CountMode count) {
+
+                Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+                CursorPage<ProjectResponse> projects = projectService.getPublicProjectsByCursor(keyword, cursor,
+                                cursorPageSize(size), direction, count);
                 return ResponseEntity.ok(projects);
         }
 
@@ -263,6 +329,39 @@ public class ProjectController {
                 return ResponseEntity.ok(projects);
         }
 
+        /**
+         * 以游標分頁進階搜尋專案
+         * 
+         * @param keyword    搜尋關鍵字
+         * @param categoryId 分類ID
+         * @param status     專案狀態
+         * @param cursor     上一頁回傳的游標
+         * @param size       每頁大小
+         * @param sortDir    建立時間排序方向
+         * @param count      總數計算方式
+         * @return 游標分頁回應
+         */
+        @GetMapping("/search/cursor")
+        @Operation(summary = "游標分頁進階搜尋專案", description = "根據關鍵字、分類、狀態搜尋專案，以游標續查")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "搜尋成功"),
+                        @ApiResponse(responseCode = "400", description = "游標無效，或與目前的排序方向、查詢條件不符") })
+        public ResponseEntity<CursorPage<ProjectResponse>> searchProjectsByCursor(
+                        @Parameter(description = "搜尋關鍵字") @RequestParam(required = false) String keyword,
+                        @Parameter(description = "分類ID") @RequestParam(required = false) Long categoryId,
+                        @Parameter(description = "專案狀態") @RequestParam(required = false) Project.ProjectStatus status,
+                        @Parameter(description = "上一頁回傳的游標") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "每頁大小，上限 " + MAX_CURSOR_PAGE_SIZE) @RequestParam(defaultValue = "10") int size,
+                        @Parameter(description = "排序方向") @RequestParam(defaultValue = "desc") String sortDir,
+                        @Parameter(description = "總數計算方式") @RequestParam(defaultValue = "NONE") CountMode count) {
+
+                Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+                CursorPage<ProjectResponse> projects = projectService.searchProjectsByCursor(keyword, categoryId,
+                                status, cursor, cursorPageSize(size), direction, count);
+                return ResponseEntity.ok(projects);
+        }
+
         /**
          * 獲取正在進行中的專案
          * 
@@ -273,8 +372,8 @@ public class ProjectController {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "查詢成功") })
         public ResponseEntity<List<ProjectResponse>> getActiveProjects() {
-                List<ProjectResponse> projects = projectService.getActiveProjects();
-                return ResponseEntity.ok(projects);
+                CachedProjectPage projects = projectService.getActiveProjectPage();
+                return versioned(projects, projects.getContent());
         }
 
         /**
@@ -289,7 +388,34 @@ public class ProjectController {
                         @ApiResponse(responseCode = "200", description = "查詢成功") })
         public ResponseEntity<List<ProjectResponse>> getProjectsByCategory(
                         @Parameter(name = "categoryId", description = "分類ID", example = "1", required = true) @PathVariable Long categoryId) {
-                List<ProjectResponse> projects = projectService.getProjectsByCategory(categoryId);
-                return ResponseEntity.ok(projects);
+                CachedProjectPage projects = projectService.getProjectsByCategoryPage(categoryId);
+                return versioned(projects, projects.getContent());
+        }
+
+        /**
+         * 附上列表版本的回應；版本與 If-None-Match 相符時由框架回應 304 且不序列化內容
+         */
+        private static <T> ResponseEntity<T> versioned(CachedProjectPage page, T body) {
+                return ResponseEntity.ok()
+                                .eTag(page.getVersion())
+                                .cacheControl(CacheControl.noCache())
+                                .body(body);
+        }
+
+        /**
+         * 304 回應（保留 ETag 與快取指示，讓用戶端繼續使用既有內容）
+         */
+        private static <T> ResponseEntity<T> notModified(String etag) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(etag)
+                                .cacheControl(CacheControl.noCache())
+                                .build();
+        }
+
+        /**
+         * 將游標分頁的每頁大小限制在 1 到 {@link #MAX_CURSOR_PAGE_SIZE} 之間
+         */
+        private static int cursorPageSize(int size) {
+                return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
         }
 }
@@ -0,0 +1,111 @@
+package com.fourseasons.crowdfunding.app.datasource;
+
+import com.fourseasons.crowdfunding.app.security.CurrentUser;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 讀寫分離資料來源設定（datasource.replicas.enabled=true 時啟用）
+ * 主庫沿用 spring.datasource.*，副本以 datasource.replicas.urls 列出，
+ * 連線池參數（spring.datasource.hikari.*）同時套用到主庫與副本；
+ * 須關閉 spring.jpa.open-in-view，否則請求中第一個交易取得的連線（可能是副本）會一路沿用到之後的寫入交易
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Value("${datasource.replicas.urls:}")
+    private String[] replicaUrls;
+
+    @Value("${datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${datasource.replicas.max-lag:5s}")
+    private Duration maxLag;
+
+    @Value("${datasource.replicas.lag-query:}")
+    private String lagQuery;
+
+    @Value("${datasource.replicas.health-check-interval:5s}")
+    private Duration healthCheckInterval;
+
+    @Value("${datasource.read-your-writes.window:5s}")
+    private Duration readYourWritesWindow;
+
+    @Value("${spring.jpa.open-in-view:true}")
+    private boolean openInView;
+
+    private HikariDataSource primary;
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(DataSourceProperties properties, Environment environment) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrls[i].trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName(name);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+        ReplicaPool replicaPool = new ReplicaPool(replicas, maxLag, lagQuery);
+        replicaPool.start(healthCheckInterval);
+        return replicaPool;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(readYourWritesWindow);
+    }
+
+    /**
+     * 應用程式使用的資料來源：延遲取得連線，再依交易唯讀旗標路由
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, ReplicaPool replicaPool,
+            ReadYourWritesTracker readYourWritesTracker, CurrentUserContext currentUserContext) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "datasource.replicas.enabled=true 時必須設定 spring.jpa.open-in-view=false");
+        }
+        primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaPool, readYourWritesTracker,
+                        () -> currentUserContext.find().map(CurrentUser::getId).orElse(null)));
+    }
+
+    @Override
+    public void destroy() {
+        if (primary != null) {
+            primary.close();
+        }
+    }
+}
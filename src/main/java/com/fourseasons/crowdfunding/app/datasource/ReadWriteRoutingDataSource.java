@@ -0,0 +1,75 @@
+package com.fourseasons.crowdfunding.app.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 讀寫分離路由資料來源
+ * 唯讀交易（@Transactional(readOnly = true)）輪詢使用可用副本，其餘一律使用主庫；
+ * 使用者寫入後的時間窗內、或沒有可用副本時，唯讀交易也改走主庫。
+ * 須包在 LazyConnectionDataSourceProxy 內，讓交易的唯讀旗標在實際取得連線前就已設定
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** 主庫的路由鍵 */
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Supplier<Long> currentUserId;
+
+    /**
+     * @param primary               主庫
+     * @param replicaPool           副本集合
+     * @param readYourWritesTracker 寫入後時間窗
+     * @param currentUserId         目前請求的使用者 ID（匿名請求為 null）
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool,
+            ReadYourWritesTracker readYourWritesTracker, Supplier<Long> currentUserId) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.currentUserId = currentUserId;
+
+        Map<Object, Object> targets = new HashMap<>(replicaPool.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(userId);
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isRecentWriter(userId)) {
+            return PRIMARY;
+        }
+        String replica = replicaPool.next();
+        return replica != null ? replica : PRIMARY;
+    }
+
+    /**
+     * 寫入交易提交後開始該使用者的 read-your-writes 時間窗
+     */
+    private void recordWriteOnCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userId);
+            }
+        });
+    }
+}
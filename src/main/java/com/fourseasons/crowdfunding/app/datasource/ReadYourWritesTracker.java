@@ -0,0 +1,48 @@
+package com.fourseasons.crowdfunding.app.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 讀取自己寫入（read-your-writes）時間窗
+ * 使用者的寫入交易提交後，在時間窗內該使用者的唯讀交易改走主庫，
+ * 避免副本尚未複寫時讀不到自己剛建立或修改的資料；記錄只保存在本節點
+ */
+public class ReadYourWritesTracker {
+
+    /**
+     * 使用者 ID → 最近一次寫入提交時間
+     */
+    private final Cache<Long, Long> recentWriters;
+
+    /**
+     * @param window 寫入後改走主庫的時間長度
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    /**
+     * 記錄使用者的寫入交易已提交
+     *
+     * @param userId 使用者 ID
+     */
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 使用者是否仍在寫入後的時間窗內
+     *
+     * @param userId 使用者 ID，可為 null（匿名請求）
+     * @return 是否應改走主庫
+     */
+    public boolean isRecentWriter(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
@@ -0,0 +1,176 @@
+package com.fourseasons.crowdfunding.app.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 唯讀副本集合
+ * 以輪詢方式挑選可用副本；背景定期檢查連線與複寫延遲，
+ * 無法連線或延遲超過上限的副本暫停使用，全部不可用時由呼叫端改用主庫
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    /**
+     * MySQL SHOW REPLICA STATUS 的延遲欄位；查詢結果沒有此欄位時讀取第一欄
+     */
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * @param dataSources 副本名稱 → 資料來源
+     * @param maxLag      允許的最大複寫延遲
+     * @param lagQuery    查詢複寫延遲（秒）的 SQL，空白表示只檢查連線
+     */
+    public ReplicaPool(Map<String, DataSource> dataSources, Duration maxLag, String lagQuery) {
+        List<Replica> list = new ArrayList<>();
+        dataSources.forEach((name, dataSource) -> list.add(new Replica(name, dataSource)));
+        this.replicas = Collections.unmodifiableList(list);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * 開始定期檢查副本；第一次檢查完成前所有讀取都使用主庫
+     *
+     * @param interval 檢查間隔
+     */
+    public void start(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 以輪詢方式挑選可用副本
+     *
+     * @return 副本名稱，沒有可用副本時為 null
+     */
+    public String next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica.name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 副本名稱 → 資料來源
+     *
+     * @return 所有副本（含暫停使用者）
+     */
+    public Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * 檢查所有副本的連線與複寫延遲
+     */
+    void checkAll() {
+        for (Replica replica : replicas) {
+            boolean available;
+            try {
+                available = check(replica);
+            } catch (SQLException | RuntimeException e) {
+                log.debug("副本健康檢查失敗 - {}", replica.name, e);
+                available = false;
+            }
+            if (available != replica.available) {
+                log.warn("副本{} - {}", available ? "恢復使用" : "暫停使用", replica.name);
+            }
+            replica.available = available;
+        }
+    }
+
+    private boolean check(Replica replica) throws SQLException {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(2);
+            }
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    // 沒有複寫狀態（複寫未設定或已停止）
+                    return false;
+                }
+                long lagSeconds = resultSet.getLong(lagColumnIndex(resultSet));
+                if (resultSet.wasNull()) {
+                    return false;
+                }
+                if (lagSeconds > maxLag.toSeconds()) {
+                    log.debug("副本複寫延遲 {} 秒，超過上限 - {}", lagSeconds, replica.name);
+                    return false;
+                }
+                return true;
+            }
+        }
+    }
+
+    private int lagColumnIndex(ResultSet resultSet) {
+        try {
+            return resultSet.findColumn(LAG_COLUMN);
+        } catch (SQLException e) {
+            return 1;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("關閉副本資料來源失敗 - {}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.fourseasons.crowdfunding.app.dto.common;
+
+/**
+ * 游標分頁的總數計算方式
+ */
+public enum CountMode {
+    /** 不計算總數 */
+    NONE,
+    /** 精確計算（額外執行 COUNT 查詢） */
+    EXACT,
+    /** 估算（使用短時間快取的 COUNT 結果） */
+    ESTIMATE
+}
@@ -0,0 +1,33 @@
+package com.fourseasons.crowdfunding.app.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 游標分頁回應
+ * 以上一頁最後一筆的位置續查，不使用 OFFSET，深層分頁不會變慢
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "游標分頁回應")
+public class CursorPage<T> {
+
+    @Schema(description = "資料內容")
+    private List<T> content;
+
+    @Schema(description = "下一頁游標（沒有下一頁時為空）", example = "MjAyNC0wMS0wMVQxMDowMDp8NDI")
+    private String nextCursor;
+
+    @Schema(description = "是否有下一頁", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "總筆數（依 count 參數，可能不計算或為估算值）", example = "128")
+    private Long totalElements;
+}
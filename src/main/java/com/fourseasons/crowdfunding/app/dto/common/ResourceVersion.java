@@ -0,0 +1,79 @@
+package com.fourseasons.crowdfunding.app.dto.common;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.Function;
+
+/**
+ * 資源版本（HTTP ETag / Last-Modified）
+ * 單筆資源以 ID 與更新時間組成；列表以各筆 ID、更新時間與總筆數的摘要組成，
+ * 任一筆新增、刪除或更新都會改變列表版本
+ */
+public final class ResourceVersion {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private ResourceVersion() {
+    }
+
+    /**
+     * 單筆資源版本
+     */
+    public static String of(Long id, LocalDateTime updatedAt) {
+        return id + "-" + Long.toHexString(toEpochMicros(updatedAt));
+    }
+
+    /**
+     * 單筆資源版本，併入回應內嵌資料的版本（內嵌資料變更時版本也隨之改變）
+     * 
+     * @param id              資源 ID
+     * @param updatedAt       資源更新時間
+     * @param embeddedVersion 內嵌資料的版本
+     */
+    public static String of(Long id, LocalDateTime updatedAt, String embeddedVersion) {
+        return of(id, updatedAt) + "-" + embeddedVersion;
+    }
+
+    /**
+     * 列表版本
+     * 
+     * @param items         列表內容
+     * @param totalElements 總筆數（分頁時與內容筆數不同）
+     * @param idOf          取得 ID
+     * @param updatedAtOf   取得更新時間
+     */
+    public static <T> String ofCollection(Iterable<T> items, long totalElements, Function<T, Long> idOf,
+            Function<T, LocalDateTime> updatedAtOf) {
+        StringBuilder source = new StringBuilder().append(totalElements);
+        for (T item : items) {
+            source.append('|').append(idOf.apply(item)).append(':').append(toEpochMicros(updatedAtOf.apply(item)));
+        }
+        return DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Last-Modified 時間（epoch 毫秒），未知時為 -1
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZONE).toInstant().toEpochMilli() : -1;
+    }
+
+    /**
+     * Last-Modified 時間（資源與內嵌資料中較晚者，epoch 毫秒），皆未知時為 -1
+     */
+    public static long lastModified(LocalDateTime updatedAt, LocalDateTime embeddedUpdatedAt) {
+        return Math.max(lastModified(updatedAt), lastModified(embeddedUpdatedAt));
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        Instant instant = time.atZone(ZONE).toInstant();
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+}
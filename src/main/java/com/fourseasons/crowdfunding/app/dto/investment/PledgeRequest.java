@@ -0,0 +1,21 @@
+package com.fourseasons.crowdfunding.app.dto.investment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 投資請求 DTO
+ */
+@Data
+@Schema(description = "投資請求")
+public class PledgeRequest {
+
+    @NotNull(message = "投資金額不能為空")
+    @DecimalMin(value = "1", message = "投資金額必須大於 0")
+    @Schema(description = "投資金額", example = "1000", required = true)
+    private BigDecimal amount;
+}
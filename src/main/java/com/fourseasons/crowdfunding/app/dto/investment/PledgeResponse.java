@@ -0,0 +1,73 @@
+package com.fourseasons.crowdfunding.app.dto.investment;
+
+import com.fourseasons.crowdfunding.app.entity.Investment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 投資回應 DTO
+ */
+@Data
+@Schema(description = "投資資訊回應")
+public class PledgeResponse {
+
+    @Schema(description = "投資請求 ID", example = "3f1c2a9e-6b1d-4a53-9f8e-2c7d5b0e4a11")
+    private String pledgeId;
+
+    @Schema(description = "投資記錄 ID（尚未寫入時為空）", example = "1")
+    private Long investmentId;
+
+    @Schema(description = "專案 ID", example = "1")
+    private Long projectId;
+
+    @Schema(description = "投資金額", example = "1000")
+    private BigDecimal amount;
+
+    @Schema(description = "投資狀態（ACCEPTED 表示已排入佇列尚未寫入，REJECTED 表示寫入失敗）", example = "CONFIRMED")
+    private String status;
+
+    @Schema(description = "寫入失敗原因（僅 REJECTED）", example = "專案不存在或目前不開放投資")
+    private String failureReason;
+
+    @Schema(description = "建立時間", example = "2024-01-01T10:00:00")
+    private LocalDateTime createdAt;
+
+    /**
+     * 已排入佇列、尚未寫入資料庫的投資
+     */
+    public static PledgeResponse accepted(String pledgeId, Long projectId, BigDecimal amount) {
+        PledgeResponse response = new PledgeResponse();
+        response.setPledgeId(pledgeId);
+        response.setProjectId(projectId);
+        response.setAmount(amount);
+        response.setStatus("ACCEPTED");
+        return response;
+    }
+
+    /**
+     * 寫入失敗的投資
+     */
+    public static PledgeResponse rejected(String pledgeId, Long projectId, BigDecimal amount, String failureReason) {
+        PledgeResponse response = accepted(pledgeId, projectId, amount);
+        response.setStatus("REJECTED");
+        response.setFailureReason(failureReason);
+        return response;
+    }
+
+    /**
+     * 從已寫入的投資記錄轉換
+     */
+    public static PledgeResponse fromInvestment(Investment investment, Long projectId) {
+        PledgeResponse response = new PledgeResponse();
+        response.setPledgeId(investment.getPledgeId());
+        response.setInvestmentId(investment.getId());
+        response.setProjectId(projectId);
+        response.setAmount(investment.getAmount());
+        response.setStatus(investment.getStatus().name());
+        response.setCreatedAt(investment.getCreatedAt());
+        return response;
+    }
+}
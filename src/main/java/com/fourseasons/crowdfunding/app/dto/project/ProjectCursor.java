@@ -0,0 +1,84 @@
+package com.fourseasons.crowdfunding.app.dto.project;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 專案列表游標（排序鍵 createdAt + 專案 ID）
+ * 對外以不透明的 Base64 字串傳遞；同時記錄產生游標時的排序方向與查詢條件雜湊，
+ * 續查時若方向或條件不同則拒絕，避免以其他條件的位置續查而漏掉或重複資料
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProjectCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+    private final Sort.Direction direction;
+    private final String filterHash;
+
+    /**
+     * 以專案位置建立游標
+     */
+    public static ProjectCursor of(Project project, Sort.Direction direction, String filter) {
+        return new ProjectCursor(project.getCreatedAt(), project.getId(), direction, hash(filter));
+    }
+
+    /**
+     * 以列表投影位置建立游標
+     */
+    public static ProjectCursor of(ProjectSummary summary, Sort.Direction direction, String filter) {
+        return new ProjectCursor(summary.getCreatedAt(), summary.getId(), direction, hash(filter));
+    }
+
+    /**
+     * 編碼為不透明字串
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id + SEPARATOR + direction.name() + SEPARATOR + filterHash;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解碼游標並檢查是否屬於目前的排序方向與查詢條件
+     * 
+     * @param cursor    游標字串，可為 null（第一頁）
+     * @param direction 目前的排序方向
+     * @param filter    目前的查詢條件（與產生游標時相同的字串）
+     * @return 游標，第一頁時為 null
+     * @throws IllegalArgumentException 游標格式錯誤，或排序方向、查詢條件與游標不符時
+     */
+    public static ProjectCursor decode(String cursor, Sort.Direction direction, String filter) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        ProjectCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            decoded = new ProjectCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    Sort.Direction.valueOf(parts[2]), parts[3]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("無效的分頁游標");
+        }
+        if (decoded.direction != direction || !decoded.filterHash.equals(hash(filter))) {
+            throw new IllegalArgumentException("分頁游標與目前的排序方向或查詢條件不符");
+        }
+        return decoded;
+    }
+
+    /**
+     * 查詢條件雜湊（String.hashCode 的演算法固定，各節點結果相同）
+     */
+    private static String hash(String filter) {
+        return Integer.toHexString(filter.hashCode());
+    }
+}
@@ -0,0 +1,23 @@
+package com.fourseasons.crowdfunding.app.dto.project;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 搜尋索引投影
+ * 只選取建立搜尋索引需要的欄位，批次重建索引時不建立受管理的實體
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectIndexEntry {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final Project.ProjectStatus status;
+    private final Long categoryId;
+    private final LocalDateTime createdAt;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.function.Function;
 
 /**
  * 專案回應 DTO
@@ -63,9 +64,20 @@ public class ProjectResponse {
     private LocalDateTime updatedAt;
 
     /**
-     * 從 Project 實體轉換為 ProjectResponse
+     * 從 Project 實體轉換為 ProjectResponse（分類資訊由實體關聯複製）
      */
     public static ProjectResponse fromProject(Project project) {
+        return fromProject(project, categoryId -> toCategoryResponse(project));
+    }
+
+    /**
+     * 從 Project 實體轉換為 ProjectResponse，分類資訊以分類 ID 查詢（不讀取分類關聯）
+     * 
+     * @param project    專案實體
+     * @param categories 分類 ID → 分類資訊
+     */
+    public static ProjectResponse fromProject(Project project,
+            Function<Long, ProjectCategoryResponse> categories) {
         ProjectResponse response = new ProjectResponse();
         response.setId(project.getId());
         response.setTitle(project.getTitle());
@@ -82,16 +94,9 @@ public class ProjectResponse {
         response.setCreatedAt(project.getCreatedAt());
         response.setUpdatedAt(project.getUpdatedAt());
 
-        // 轉換分類資訊
+        // 轉換分類資訊（未初始化的代理取得 ID 不會觸發載入）
         if (project.getCategory() != null) {
-            ProjectCategoryResponse categoryResponse = new ProjectCategoryResponse();
-            categoryResponse.setCategoryId(project.getCategory().getId());
-            categoryResponse.setName(project.getCategory().getName());
-            categoryResponse.setDescription(project.getCategory().getDescription());
-            categoryResponse.setActive(project.getCategory().isActive());
-            categoryResponse.setCreatedAt(project.getCategory().getCreatedAt());
-            categoryResponse.setUpdatedAt(project.getCategory().getUpdatedAt());
-            response.setCategory(categoryResponse);
+            response.setCategory(categories.apply(project.getCategory().getId()));
         }
 
         // 轉換創建者資訊
@@ -100,7 +105,7 @@ public class ProjectResponse {
             creatorResponse.setUserId(project.getCreator().getId());
             creatorResponse.setUsername(project.getCreator().getUsername());
             creatorResponse.setEmail(project.getCreator().getEmail());
-            creatorResponse.setRole(project.getCreator().getRole().toString());
+            creatorResponse.setRole(project.getCreator().getRole().getName());
             creatorResponse.setCreatedAt(project.getCreator().getCreatedAt());
             creatorResponse.setUpdatedAt(project.getCreator().getUpdatedAt());
             response.setCreator(creatorResponse);
@@ -108,4 +113,66 @@ public class ProjectResponse {
 
         return response;
     }
+
+    /**
+     * 從列表投影轉換為 ProjectResponse
+     * 描述為摘要（前 {@link ProjectSummary#EXCERPT_LENGTH} 個字元），完整內容請以單筆查詢取得
+     * 
+     * @param summary    列表投影
+     * @param categories 分類 ID → 分類資訊
+     */
+    public static ProjectResponse fromSummary(ProjectSummary summary,
+            Function<Long, ProjectCategoryResponse> categories) {
+        LocalDateTime now = LocalDateTime.now();
+
+        ProjectResponse response = new ProjectResponse();
+        response.setId(summary.getId());
+        response.setTitle(summary.getTitle());
+        response.setDescription(summary.getDescriptionExcerpt());
+        response.setGoalAmount(summary.getGoalAmount());
+        response.setCurrentAmount(summary.getCurrentAmount());
+        response.setStatus(summary.getStatus().name());
+        response.setStartDate(summary.getStartDate());
+        response.setEndDate(summary.getEndDate());
+        response.setProgressPercentage(
+                Project.progressPercentage(summary.getCurrentAmount(), summary.getGoalAmount()));
+        response.setRemainingDays(Project.remainingDays(summary.getEndDate(), now));
+        response.setIsGoalReached(Project.isGoalReached(summary.getCurrentAmount(), summary.getGoalAmount()));
+        response.setIsActive(Project.isActive(summary.getStatus(), summary.getStartDate(), summary.getEndDate(), now));
+        response.setCreatedAt(summary.getCreatedAt());
+        response.setUpdatedAt(summary.getUpdatedAt());
+
+        // 轉換分類資訊
+        if (summary.getCategoryId() != null) {
+            response.setCategory(categories.apply(summary.getCategoryId()));
+        }
+
+        // 轉換創建者資訊
+        if (summary.getCreatorId() != null) {
+            UserResponse creatorResponse = new UserResponse();
+            creatorResponse.setUserId(summary.getCreatorId());
+            creatorResponse.setUsername(summary.getCreatorUsername());
+            creatorResponse.setEmail(summary.getCreatorEmail());
+            creatorResponse.setRole(summary.getCreatorRole());
+            creatorResponse.setCreatedAt(summary.getCreatorCreatedAt());
+            creatorResponse.setUpdatedAt(summary.getCreatorUpdatedAt());
+            response.setCreator(creatorResponse);
+        }
+
+        return response;
+    }
+
+    /**
+     * 由實體關聯複製分類資訊
+     */
+    private static ProjectCategoryResponse toCategoryResponse(Project project) {
+        ProjectCategoryResponse categoryResponse = new ProjectCategoryResponse();
+        categoryResponse.setCategoryId(project.getCategory().getId());
+        categoryResponse.setName(project.getCategory().getName());
+        categoryResponse.setDescription(project.getCategory().getDescription());
+        categoryResponse.setActive(project.getCategory().isActive());
+        categoryResponse.setCreatedAt(project.getCategory().getCreatedAt());
+        categoryResponse.setUpdatedAt(project.getCategory().getUpdatedAt());
+        return categoryResponse;
+    }
 }
@@ -0,0 +1,45 @@
+package com.fourseasons.crowdfunding.app.dto.project;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 專案列表投影
+ * 由 JPQL 建構子表達式直接產生，只選取列表需要的欄位，不建立受管理的實體、不參與髒檢查；
+ * 描述只取前 {@link #EXCERPT_LENGTH} 個字元，列表不讀取完整的 TEXT 欄位
+ */
+@Getter
+@AllArgsConstructor
+public class ProjectSummary {
+
+    /**
+     * 列表描述摘要長度
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
+    private final Long id;
+    private final String title;
+    private final String descriptionExcerpt;
+    private final BigDecimal goalAmount;
+    private final BigDecimal currentAmount;
+    private final Project.ProjectStatus status;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    // 創建者（LEFT JOIN，可能為 null）
+    private final Long creatorId;
+    private final String creatorUsername;
+    private final String creatorEmail;
+    private final String creatorRole;
+    private final LocalDateTime creatorCreatedAt;
+    private final LocalDateTime creatorUpdatedAt;
+
+    // 分類只取外鍵，分類資料由分類目錄快照補上（未分類時為 null）
+    private final Long categoryId;
+}
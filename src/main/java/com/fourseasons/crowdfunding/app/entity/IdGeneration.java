@@ -0,0 +1,43 @@
+package com.fourseasons.crowdfunding.app.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+
+/**
+ * 實體 ID 產生設定
+ * 所有實體使用序列（MySQL 以 *_seq 資料表模擬）搭配 pooled-lo 最佳化器，
+ * 每次向資料庫取得一段 ID，使 Hibernate 可以延後並批次執行 INSERT；
+ * 每段 ID 數量由 Hibernate 設定 {@link #ALLOCATION_SIZE_SETTING} 決定
+ * （spring.jpa.properties.crowdfunding.id.allocation-size）
+ */
+public final class IdGeneration {
+
+    /**
+     * 每次預先配置 ID 數量的設定名稱
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "crowdfunding.id.allocation-size";
+
+    /**
+     * 未設定時每次預先配置的 ID 數量
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+
+    /**
+     * 讀取每次預先配置的 ID 數量
+     * 
+     * @param serviceRegistry Hibernate 服務登錄
+     * @return ID 數量
+     */
+    static int allocationSize(ServiceRegistry serviceRegistry) {
+        int size = ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING,
+                serviceRegistry.requireService(ConfigurationService.class).getSettings(), DEFAULT_ALLOCATION_SIZE);
+        if (size < 1) {
+            throw new IllegalArgumentException(ALLOCATION_SIZE_SETTING + " must be at least 1: " + size);
+        }
+        return size;
+    }
+}
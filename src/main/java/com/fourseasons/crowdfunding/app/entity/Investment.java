@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "investments", indexes = {
         @Index(name = "idx_user_project", columnList = "user_id, project_id"),
+        @Index(name = "idx_project_id", columnList = "project_id"),
         @Index(name = "idx_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pledge_id", columnNames = "pledge_id")
 })
 @Data
 @NoArgsConstructor
@@ -25,10 +28,15 @@ public class Investment {
 
     @Comment("投資記錄ID")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     @Column(name = "investment_id")
     private Long id;
 
+    // 唯一索引 uk_pledge_id：查詢處理結果時走索引，逐筆重試時也防止同一投資寫入兩次
+    @Comment("投資請求ID（提交時產生，供查詢處理結果）")
+    @Column(name = "pledge_id", length = 36)
+    private String pledgeId;
+
     @Comment("投資金額")
     @Column(nullable = false, precision = 15, scale = 2)
     private BigDecimal amount;
@@ -0,0 +1,17 @@
+package com.fourseasons.crowdfunding.app.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 以「資料表名稱_seq」序列搭配 pooled-lo 最佳化器產生 ID，每段 ID 數量由設定決定（見 {@link IdGeneration}）
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface PooledSequence {
+}
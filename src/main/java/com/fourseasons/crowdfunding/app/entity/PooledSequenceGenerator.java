@@ -0,0 +1,34 @@
+package com.fourseasons.crowdfunding.app.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * {@link PooledSequence} 的 ID 產生器
+ * 序列名稱為「資料表名稱_seq」，每段 ID 數量在設定階段由 Hibernate 設定讀取，
+ * 其餘（模擬序列資料表、pooled-lo 最佳化器）沿用 {@link SequenceStyleGenerator}；
+ * 由 Spring 的 Bean 容器建立，因此只提供無參數建構子
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * 序列名稱後綴
+     */
+    static final String SEQUENCE_SUFFIX = "_seq";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        String table = parameters.getProperty(PersistentIdentifierGenerator.TABLE);
+        if (table == null) {
+            throw new MappingException("@PooledSequence requires an entity table");
+        }
+        parameters.put(SEQUENCE_PARAM, table + SEQUENCE_SUFFIX);
+        parameters.put(INCREMENT_PARAM, String.valueOf(IdGeneration.allocationSize(serviceRegistry)));
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
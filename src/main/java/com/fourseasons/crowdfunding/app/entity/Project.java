@@ -1,5 +1,6 @@
 package com.fourseasons.crowdfunding.app.entity;
 
+import com.fourseasons.crowdfunding.app.event.ProjectEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -17,8 +18,17 @@ import java.util.ArrayList;
  */
 @Entity
 @Table(name = "projects", indexes = {
-        @Index(name = "idx_status", columnList = "status")
+        @Index(name = "idx_status", columnList = "status"),
+        // 進行中專案登錄表：已核准且尚未結束的專案
+        @Index(name = "idx_status_end_date", columnList = "status, end_date"),
+        // 游標分頁：(排序鍵, 專案ID)
+        @Index(name = "idx_status_created_id", columnList = "status, created_at, project_id"),
+        @Index(name = "idx_category_created_id", columnList = "category_id, created_at, project_id"),
+        @Index(name = "idx_created_id", columnList = "created_at, project_id"),
+        // 搜尋索引定期補同步：最近更新的專案
+        @Index(name = "idx_updated_at", columnList = "updated_at")
 })
+@EntityListeners(ProjectEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +36,7 @@ public class Project {
 
     @Comment("專案ID")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     @Column(name = "project_id")
     private Long id;
 
@@ -111,10 +121,7 @@ public class Project {
      * @return true 如果專案已核准且在有效期間內
      */
     public boolean isActive() {
-        LocalDateTime now = LocalDateTime.now();
-        return status == ProjectStatus.APPROVED &&
-                now.isAfter(startDate) &&
-                now.isBefore(endDate);
+        return isActive(status, startDate, endDate, LocalDateTime.now());
     }
 
     /**
@@ -123,6 +130,41 @@ public class Project {
      * @return 進度百分比 (0-100)
      */
     public BigDecimal getProgressPercentage() {
+        return progressPercentage(currentAmount, goalAmount);
+    }
+
+    /**
+     * 計算剩餘天數
+     * 
+     * @return 剩餘天數，如果已結束則返回 0
+     */
+    public long getRemainingDays() {
+        return remainingDays(endDate, LocalDateTime.now());
+    }
+
+    /**
+     * 檢查專案是否已達到目標金額
+     * 
+     * @return true 如果已達到或超過目標金額
+     */
+    public boolean isGoalReached() {
+        return isGoalReached(currentAmount, goalAmount);
+    }
+
+    /**
+     * 檢查指定時間點專案是否正在進行中（供不載入實體的投影查詢共用）
+     */
+    public static boolean isActive(ProjectStatus status, LocalDateTime startDate, LocalDateTime endDate,
+            LocalDateTime now) {
+        return status == ProjectStatus.APPROVED &&
+                now.isAfter(startDate) &&
+                now.isBefore(endDate);
+    }
+
+    /**
+     * 計算進度百分比（供不載入實體的投影查詢共用）
+     */
+    public static BigDecimal progressPercentage(BigDecimal currentAmount, BigDecimal goalAmount) {
         if (goalAmount.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
         }
@@ -131,12 +173,9 @@ public class Project {
     }
 
     /**
-     * 計算剩餘天數
-     * 
-     * @return 剩餘天數，如果已結束則返回 0
+     * 計算指定時間點的剩餘天數（供不載入實體的投影查詢共用）
      */
-    public long getRemainingDays() {
-        LocalDateTime now = LocalDateTime.now();
+    public static long remainingDays(LocalDateTime endDate, LocalDateTime now) {
         if (now.isAfter(endDate)) {
             return 0;
         }
@@ -144,11 +183,9 @@ public class Project {
     }
 
     /**
-     * 檢查專案是否已達到目標金額
-     * 
-     * @return true 如果已達到或超過目標金額
+     * 檢查是否已達到目標金額（供不載入實體的投影查詢共用）
      */
-    public boolean isGoalReached() {
+    public static boolean isGoalReached(BigDecimal currentAmount, BigDecimal goalAmount) {
         return currentAmount.compareTo(goalAmount) >= 0;
     }
 
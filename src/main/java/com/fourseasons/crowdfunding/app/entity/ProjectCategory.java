@@ -23,7 +23,7 @@ public class ProjectCategory {
 
     @Comment("分類ID")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     @Column(name = "category_id")
     private Long id;
 
@@ -21,7 +21,7 @@ public class ProjectImage {
 
     @Comment("圖片ID")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     @Column(name = "image_id")
     private Long id;
 
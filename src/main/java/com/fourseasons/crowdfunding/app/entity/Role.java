@@ -18,7 +18,7 @@ public class Role {
 
     @Comment("角色ID")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     @Column(name = "role_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.fourseasons.crowdfunding.app.entity;
 
+import com.fourseasons.crowdfunding.app.event.UserEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,14 +20,21 @@ import java.util.ArrayList;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User implements UserDetails {
 
+    /** 自動鎖定前允許的連續登入失敗次數 */
+    public static final int MAX_LOGIN_FAILURES = 5;
+
+    /** 自動鎖定持續時間（分鐘） */
+    public static final int LOCK_DURATION_MINUTES = 30;
+
     @Comment("使用者ID")
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence
     @Column(name = "user_id")
     private Long id;
 
@@ -123,19 +131,9 @@ public class User implements UserDetails {
             return false;
         }
 
-        // 檢查自動鎖定：連續失敗5次後鎖定30分鐘
-        if (loginFailureCount >= 5 && lastFailureTime != null) {
-            LocalDateTime unlockTime = lastFailureTime.plusMinutes(30);
-            if (LocalDateTime.now().isBefore(unlockTime)) {
-                return false; // 仍在鎖定期間
-            } else {
-                // 鎖定時間已過，自動解除
-                loginFailureCount = 0;
-                lastFailureTime = null;
-            }
-        }
-
-        return true;
+        // 檢查自動鎖定：連續失敗5次後鎖定30分鐘，到期後自動視為解鎖（不修改欄位）
+        return loginFailureCount < MAX_LOGIN_FAILURES || lastFailureTime == null
+                || !LocalDateTime.now().isBefore(lastFailureTime.plusMinutes(LOCK_DURATION_MINUTES));
     }
 
     @Override
@@ -164,19 +162,26 @@ public class User implements UserDetails {
     }
 
     /**
-     * 記錄登入失敗（用於自動鎖定機制）
-     */
-    public void recordLoginFailure() {
-        this.loginFailureCount++;
-        this.lastFailureTime = LocalDateTime.now();
-    }
-
-    /**
-     * 重置登入失敗記錄（登入成功時呼叫）
+     * 建立不含關聯集合的分離副本，角色一併複製以避免在交易外延遲載入
+     * 
+     * @return 使用者副本
      */
-    public void resetLoginFailures() {
-        this.loginFailureCount = 0;
-        this.lastFailureTime = null;
+    public User detachedCopy() {
+        User copy = new User();
+        copy.setId(id);
+        copy.setUsername(username);
+        copy.setEmail(email);
+        copy.setPassword(password);
+        copy.setRole(new Role(role.getId(), role.getName()));
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        copy.setEnabled(enabled);
+        copy.setAccountNonExpired(accountNonExpired);
+        copy.setAccountNonLocked(accountNonLocked);
+        copy.setCredentialsNonExpired(credentialsNonExpired);
+        copy.setLoginFailureCount(loginFailureCount);
+        copy.setLastFailureTime(lastFailureTime);
+        return copy;
     }
 
 }
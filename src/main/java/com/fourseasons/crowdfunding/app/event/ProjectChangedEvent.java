@@ -0,0 +1,39 @@
+package com.fourseasons.crowdfunding.app.event;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 專案資料變更事件
+ * 專案新增、更新（含狀態變更）或刪除時發布，攜帶變更當下的欄位快照，
+ * 供搜尋索引、快取等在交易提交後同步
+ */
+@Getter
+public class ProjectChangedEvent extends ApplicationEvent {
+
+    private final Long projectId;
+    private final String title;
+    private final String description;
+    private final Project.ProjectStatus status;
+    private final Long categoryId;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final LocalDateTime createdAt;
+    private final boolean deleted;
+
+    public ProjectChangedEvent(Object source, Project project, boolean deleted) {
+        super(source);
+        this.projectId = project.getId();
+        this.title = project.getTitle();
+        this.description = project.getDescription();
+        this.status = project.getStatus();
+        this.categoryId = project.getCategory() != null ? project.getCategory().getId() : null;
+        this.startDate = project.getStartDate();
+        this.endDate = project.getEndDate();
+        this.createdAt = project.getCreatedAt();
+        this.deleted = deleted;
+    }
+}
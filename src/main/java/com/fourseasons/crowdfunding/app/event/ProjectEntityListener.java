@@ -0,0 +1,31 @@
+package com.fourseasons.crowdfunding.app.event;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 專案實體監聽器
+ * 專案新增、更新或刪除時發布 {@link ProjectChangedEvent}
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onProjectSaved(Project project) {
+        eventPublisher.publishEvent(new ProjectChangedEvent(this, project, false));
+    }
+
+    @PostRemove
+    public void onProjectRemoved(Project project) {
+        eventPublisher.publishEvent(new ProjectChangedEvent(this, project, true));
+    }
+}
@@ -0,0 +1,19 @@
+package com.fourseasons.crowdfunding.app.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 使用者資料變更事件
+ * 使用者被鎖定、停用、記錄登入失敗或變更角色時發布，用於讓快取失效
+ */
+@Getter
+public class UserChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+
+    public UserChangedEvent(Object source, Long userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
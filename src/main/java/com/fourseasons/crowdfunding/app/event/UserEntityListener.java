@@ -0,0 +1,25 @@
+package com.fourseasons.crowdfunding.app.event;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 使用者實體監聽器
+ * 任何對 users 資料列的更新或刪除都會發布 {@link UserChangedEvent}
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(this, user.getId()));
+    }
+}
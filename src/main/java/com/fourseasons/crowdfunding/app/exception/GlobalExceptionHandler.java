@@ -85,6 +85,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
+    /**
+     * 處理請求過多異常
+     * 
+     * @param ex 請求過多異常
+     * @return 錯誤回應
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        log.warn("請求過多 - 錯誤訊息: {}", ex.getMessage());
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("message", ex.getMessage());
+        error.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
     /**
      * 處理業務邏輯異常
      * 
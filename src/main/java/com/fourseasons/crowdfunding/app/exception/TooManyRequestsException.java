@@ -0,0 +1,15 @@
+package com.fourseasons.crowdfunding.app.exception;
+
+/**
+ * 請求過多異常（系統忙碌或超過速率限制）
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
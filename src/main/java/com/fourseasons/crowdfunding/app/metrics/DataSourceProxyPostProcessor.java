@@ -0,0 +1,37 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 以 datasource-proxy 包裝應用程式的 DataSource
+ * Hibernate、JdbcTemplate 等所有經由連線池執行的 SQL 都會通知 {@link SqlStatementListener}；
+ * 啟用讀寫分離時包裝的是路由後的 DataSource，主庫與副本都會計入
+ */
+@Component
+@ConditionalOnProperty(name = "sql.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatementRecorder> recorder;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<SqlStatementRecorder> recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlStatementListener(recorder::getObject))
+                    .build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,134 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 單一請求的資料庫統計（SQL 陳述式數量、執行時間與最慢的陳述式）
+ * 由 {@link RequestMetricsFilter} 建立並綁定在處理請求的執行緒上（非同步請求的每次分派共用同一份），
+ * 資料來源代理在每次執行 SQL 後經由 {@link SqlStatementRecorder} 累加；計數可由多個執行緒同時更新
+ */
+public final class RequestDbStats {
+
+    /** 保存於請求屬性中的名稱 */
+    public static final String ATTRIBUTE = RequestDbStats.class.getName();
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong dbNanos = new AtomicLong();
+
+    private long slowestNanos;
+    private String slowestSql;
+    private String slowestParameters;
+
+    /**
+     * 取得目前執行緒所屬請求的統計
+     *
+     * @return 統計，不在請求內執行時為 null
+     */
+    public static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 取得請求的統計
+     *
+     * @param request HTTP 請求
+     * @return 統計，未經過 {@link RequestMetricsFilter} 時為 null
+     */
+    public static RequestDbStats of(HttpServletRequest request) {
+        return request.getAttribute(ATTRIBUTE) instanceof RequestDbStats stats ? stats : null;
+    }
+
+    /**
+     * 在其他執行緒（例如密碼驗證執行緒池）執行屬於某個請求的工作，期間的 SQL 計入該請求
+     *
+     * @param stats 請求的統計（呼叫端以 {@link #current()} 取得，可為 null）
+     * @param task  工作
+     */
+    public static void runWith(RequestDbStats stats, Runnable task) {
+        if (stats == null) {
+            task.run();
+            return;
+        }
+        RequestDbStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void bind(RequestDbStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 記錄一次 SQL 執行
+     *
+     * @param nanos 執行時間（奈秒）
+     * @return 是否為此請求目前最慢的陳述式
+     */
+    boolean record(long nanos) {
+        statements.incrementAndGet();
+        dbNanos.addAndGet(nanos);
+        return nanos > slowestNanos;
+    }
+
+    /**
+     * 記錄最慢的陳述式
+     *
+     * @param nanos      執行時間（奈秒）
+     * @param sql        陳述式指紋
+     * @param parameters 綁定參數型別
+     */
+    synchronized void recordSlowest(long nanos, String sql, String parameters) {
+        if (nanos > slowestNanos) {
+            slowestNanos = nanos;
+            slowestSql = sql;
+            slowestParameters = parameters;
+        }
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getDbNanos() {
+        return dbNanos.get();
+    }
+
+    public synchronized long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    public synchronized String getSlowestSql() {
+        return slowestSql;
+    }
+
+    public synchronized String getSlowestParameters() {
+        return slowestParameters;
+    }
+
+    /**
+     * 請求開始至今的時間（奈秒）
+     *
+     * @return 經過時間
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
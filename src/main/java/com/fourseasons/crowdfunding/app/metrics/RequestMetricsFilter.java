@@ -0,0 +1,102 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 請求資料庫統計過濾器
+ * 在 http.server.requests 觀測（ServerHttpObservationFilter）之內執行，
+ * 為每個請求建立 {@link RequestDbStats}，請求結束（非同步請求為最後一次分派結束）後
+ * 依路由樣板記錄該請求的 SQL 數量與資料庫時間；
+ * 超出 {@link SqlBudget} 的請求另以 WARN 記錄最慢的陳述式
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    /** 無法對應路由時的樣板名稱 */
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudget sqlBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        // 非同步請求的 ASYNC 分派沿用第一次分派建立的統計，耗時也從第一次分派起算
+        RequestDbStats stats = RequestDbStats.of(request);
+        if (stats == null) {
+            stats = new RequestDbStats();
+            request.setAttribute(RequestDbStats.ATTRIBUTE, stats);
+        }
+        RequestDbStats.bind(stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDbStats.unbind();
+            if (!request.isAsyncStarted()) {
+                record(request, stats);
+                if (sqlBudget.isExceeded(stats)) {
+                    logOverBudget(request, stats);
+                }
+            }
+        }
+    }
+
+    /**
+     * 非同步請求（登入、投資）在最後一次 ASYNC 分派結束時才記錄
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void record(HttpServletRequest request, RequestDbStats stats) {
+        String route = route(request);
+        String method = request.getMethod();
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("每個請求執行的 SQL 陳述式數量")
+                .tags("uri", route, "method", method)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.requests.db.time")
+                .description("每個請求的資料庫執行時間")
+                .tags("uri", route, "method", method)
+                .register(meterRegistry)
+                .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void logOverBudget(HttpServletRequest request, RequestDbStats stats) {
+        log.warn("請求超出 SQL 預算 - {} {} - 陳述式: {} - 資料庫時間: {}ms - 最慢: {}ms {} {}",
+                request.getMethod(), route(request), stats.getStatements(),
+                TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos()),
+                TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos()),
+                stats.getSlowestSql(), stats.getSlowestParameters());
+    }
+
+    /**
+     * 取得請求對應的路由樣板（例如 /api/projects/{id}），避免以實際路徑作為標籤
+     */
+    static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+}
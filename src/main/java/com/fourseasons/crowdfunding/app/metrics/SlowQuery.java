@@ -0,0 +1,20 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 單一 SQL 指紋的執行統計（自啟動或上次清除後累計）
+ */
+@Getter
+@AllArgsConstructor
+public class SlowQuery {
+
+    private final String fingerprint;
+    private final long count;
+    private final double totalMillis;
+    private final double avgMillis;
+    private final double maxMillis;
+    /** 最慢一次執行的綁定參數型別 */
+    private final String maxParameters;
+}
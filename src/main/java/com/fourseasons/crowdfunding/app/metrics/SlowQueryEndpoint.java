@@ -0,0 +1,36 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 慢查詢端點（/actuator/slowqueries）
+ * GET 回傳單次最長執行時間前 N 名的 SQL 指紋（可用 ?limit= 調整），DELETE 清除統計
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SqlStatementRecorder recorder;
+
+    @Value("${sql.slow-queries.top-n:20}")
+    private int topN;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries(@Nullable Integer limit) {
+        return recorder.topSlowest(limit != null && limit > 0 ? limit : topN);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
@@ -0,0 +1,30 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 每個請求的 SQL 預算
+ * 陳述式數量或資料庫時間超過 sql.budget.* 時視為超出預算（常見於 N+1 查詢或缺少索引）
+ */
+@Component
+public class SqlBudget {
+
+    @Value("${sql.budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${sql.budget.max-time:500ms}")
+    private Duration maxTime;
+
+    /**
+     * 請求是否超出預算
+     *
+     * @param stats 請求的資料庫統計
+     * @return 是否超出
+     */
+    public boolean isExceeded(RequestDbStats stats) {
+        return stats.getStatements() > maxStatements || stats.getDbNanos() > maxTime.toNanos();
+    }
+}
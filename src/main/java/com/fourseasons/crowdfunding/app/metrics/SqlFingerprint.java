@@ -0,0 +1,35 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 指紋
+ * 將字面值換成 ?、IN 清單合併為單一 ?、空白正規化，使只差在參數的陳述式歸為同一類
+ */
+public final class SqlFingerprint {
+
+    /** 指紋最大長度（超過時截斷） */
+    static final int MAX_LENGTH = 2000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * 產生 SQL 指紋
+     *
+     * @param sql 原始 SQL
+     * @return 指紋
+     */
+    public static String of(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (?)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        return fingerprint.length() > MAX_LENGTH ? fingerprint.substring(0, MAX_LENGTH) : fingerprint;
+    }
+}
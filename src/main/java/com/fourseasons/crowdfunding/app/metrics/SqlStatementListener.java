@@ -0,0 +1,72 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 資料來源代理的 SQL 執行監聽器
+ * 以奈秒計時每次執行（批次視為一次往返），交由 {@link SqlStatementRecorder} 累加；
+ * 綁定參數只記錄型別（例如 Long、String），不記錄值
+ */
+class SqlStatementListener implements QueryExecutionListener {
+
+    private final ThreadLocal<long[]> startNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Supplier<SqlStatementRecorder> recorder;
+
+    SqlStatementListener(Supplier<SqlStatementRecorder> recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        startNanos.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long nanos = System.nanoTime() - startNanos.get()[0];
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        QueryInfo query = queryInfoList.get(0);
+        recorder.get().record(query.getQuery(), nanos,
+                () -> parameterShapes(query, execInfo.isBatch() ? execInfo.getBatchSize() : 1));
+    }
+
+    /**
+     * 綁定參數型別，例如 (Long, String)；批次執行時附加筆數，例如 (Long, String) x50
+     */
+    static String parameterShapes(QueryInfo query, int batchSize) {
+        List<List<ParameterSetOperation>> parametersList = query.getParametersList();
+        StringBuilder shapes = new StringBuilder("(");
+        if (!parametersList.isEmpty()) {
+            List<ParameterSetOperation> operations = parametersList.get(0);
+            for (int i = 0; i < operations.size(); i++) {
+                if (i > 0) {
+                    shapes.append(", ");
+                }
+                shapes.append(shape(operations.get(i)));
+            }
+        }
+        shapes.append(')');
+        if (batchSize > 1) {
+            shapes.append(" x").append(batchSize);
+        }
+        return shapes.toString();
+    }
+
+    private static String shape(ParameterSetOperation operation) {
+        String method = operation.getMethod().getName();
+        if ("setObject".equals(method)) {
+            Object[] args = operation.getArgs();
+            return args.length > 1 && args[1] != null ? args[1].getClass().getSimpleName() : "Null";
+        }
+        return method.startsWith("set") ? method.substring(3) : method;
+    }
+}
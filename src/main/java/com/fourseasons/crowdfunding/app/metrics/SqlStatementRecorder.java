@@ -0,0 +1,104 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SQL 執行紀錄
+ * 每次執行累加到目前請求的 {@link RequestDbStats}，並依指紋彙總全域統計供 slowqueries 端點查詢；
+ * 指紋數量有上限，超過後不再收錄新的指紋
+ */
+@Component
+public class SqlStatementRecorder {
+
+    private final Cache<String, String> fingerprints = Caffeine.newBuilder()
+            .maximumSize(2000)
+            .build();
+
+    private final ConcurrentMap<String, Stats> statsByFingerprint = new ConcurrentHashMap<>();
+
+    @Value("${sql.slow-queries.max-fingerprints:1000}")
+    private int maxFingerprints;
+
+    /**
+     * 記錄一次 SQL 執行
+     *
+     * @param sql             原始 SQL
+     * @param nanos           執行時間（奈秒）
+     * @param parameterShapes 綁定參數型別（只在成為最慢紀錄時才產生）
+     */
+    public void record(String sql, long nanos, Supplier<String> parameterShapes) {
+        String fingerprint = fingerprints.get(sql, SqlFingerprint::of);
+        String shapes = null;
+
+        RequestDbStats request = RequestDbStats.current();
+        if (request != null && request.record(nanos)) {
+            shapes = parameterShapes.get();
+            request.recordSlowest(nanos, fingerprint, shapes);
+        }
+
+        Stats stats = statsByFingerprint.get(fingerprint);
+        if (stats == null) {
+            if (statsByFingerprint.size() >= maxFingerprints) {
+                return;
+            }
+            stats = statsByFingerprint.computeIfAbsent(fingerprint, key -> new Stats());
+        }
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        if (stats.maxNanos.getAndAccumulate(nanos, Math::max) < nanos) {
+            stats.maxParameters = shapes != null ? shapes : parameterShapes.get();
+        }
+    }
+
+    /**
+     * 依單次最長執行時間排序的前 N 個指紋
+     *
+     * @param limit 筆數
+     * @return 慢查詢統計
+     */
+    public List<SlowQuery> topSlowest(int limit) {
+        return statsByFingerprint.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(SlowQuery::getMaxMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 清除全域統計
+     */
+    public void reset() {
+        statsByFingerprint.clear();
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile String maxParameters;
+
+        private SlowQuery snapshot(String fingerprint) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return new SlowQuery(fingerprint, executions, toMillis(total),
+                    executions > 0 ? toMillis(total / executions) : 0, toMillis(maxNanos.get()), maxParameters);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
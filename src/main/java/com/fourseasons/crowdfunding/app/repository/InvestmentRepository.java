@@ -0,0 +1,30 @@
+package com.fourseasons.crowdfunding.app.repository;
+
+import com.fourseasons.crowdfunding.app.entity.Investment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 投資記錄資料存取層
+ */
+@Repository
+public interface InvestmentRepository extends JpaRepository<Investment, Long> {
+
+    /**
+     * 根據專案查詢投資記錄（使用下劃線屬性導航）
+     */
+    List<Investment> findByProject_Id(Long projectId);
+
+    /**
+     * 根據投資者查詢投資記錄（使用下劃線屬性導航）
+     */
+    List<Investment> findByInvestor_Id(Long investorId);
+
+    /**
+     * 根據投資請求 ID 查詢投資記錄
+     */
+    Optional<Investment> findByPledgeId(String pledgeId);
+}
@@ -1,56 +1,90 @@
 package com.fourseasons.crowdfunding.app.repository;
 
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectIndexEntry;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
 import com.fourseasons.crowdfunding.app.entity.Project;
-import com.fourseasons.crowdfunding.app.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * 專案資料存取層
+ * 列表查詢一律以實體圖一併載入 ProjectResponse 需要的關聯（創建者、創建者角色），避免 N+1 查詢；
+ * 分類只讀取外鍵，分類資料由分類目錄快照提供；
+ * 唯讀列表改用 {@link ProjectSummary} 投影查詢，不建立受管理的實體
  */
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
         /**
-         * 根據創建者查詢專案
+         * 列表查詢需要一併載入的關聯
          */
-        List<Project> findByCreator(User creator);
+        String GRAPH_CREATOR = "creator";
+        String GRAPH_CREATOR_ROLE = "creator.role";
 
         /**
-         * 根據創建者查詢專案（分頁）
+         * 列表投影查詢的 SELECT 與 FROM 子句（描述只取摘要）
          */
-        Page<Project> findByCreator(User creator, Pageable pageable);
+        String SUMMARY_SELECT = "SELECT new com.fourseasons.crowdfunding.app.dto.project.ProjectSummary(" +
+                        "p.id, p.title, SUBSTRING(p.description, 1, " + ProjectSummary.EXCERPT_LENGTH + "), " +
+                        "p.goalAmount, p.currentAmount, p.status, p.startDate, p.endDate, p.createdAt, p.updatedAt, " +
+                        "c.id, c.username, c.email, r.name, c.createdAt, c.updatedAt, p.category.id) " +
+                        "FROM Project p LEFT JOIN p.creator c LEFT JOIN c.role r ";
+
+        /**
+         * 根據創建者 ID 查詢專案
+         */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
+        List<Project> findByCreator_Id(Long creatorId);
+
+        /**
+         * 根據創建者 ID 查詢專案（分頁）
+         */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
+        Page<Project> findByCreator_Id(Long creatorId, Pageable pageable);
 
         /**
          * 根據狀態查詢專案
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         List<Project> findByStatus(Project.ProjectStatus status);
 
         /**
          * 根據狀態查詢專案（分頁）
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         Page<Project> findByStatus(Project.ProjectStatus status, Pageable pageable);
 
         /**
-         * 根據創建者和狀態查詢專案
+         * 根據創建者 ID 和狀態查詢專案
          */
-        List<Project> findByCreatorAndStatus(User creator, Project.ProjectStatus status);
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
+        List<Project> findByCreator_IdAndStatus(Long creatorId, Project.ProjectStatus status);
 
         /**
-         * 根據創建者和狀態查詢專案（分頁）
+         * 根據創建者 ID 和狀態查詢專案（分頁）
          */
-        Page<Project> findByCreatorAndStatus(User creator, Project.ProjectStatus status, Pageable pageable);
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
+        Page<Project> findByCreator_IdAndStatus(Long creatorId, Project.ProjectStatus status, Pageable pageable);
 
         /**
          * 搜尋專案（標題或描述包含關鍵字）
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         @Query("SELECT p FROM Project p WHERE " +
                         "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
                         "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
@@ -62,6 +96,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
         /**
          * 進階搜尋專案（包含分類篩選）
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         @Query("SELECT p FROM Project p WHERE " +
                         "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
                         "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
@@ -75,31 +110,324 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
         /**
          * 查詢已核准的專案（公開查詢）
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         @Query("SELECT p FROM Project p WHERE p.status = 'APPROVED' AND " +
                         "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
                         "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
         Page<Project> findApprovedProjects(@Param("keyword") String keyword, Pageable pageable);
 
         /**
-         * 檢查專案是否屬於指定使用者
+         * 游標分頁的接續條件（由新到舊／由舊到新）
+         * 只以 createdAt 的單邊範圍為主條件，讓 (status, created_at, project_id) 與
+         * (category_id, created_at, project_id) 索引可以直接做範圍掃描；
+         * 首頁另有不帶游標的查詢，避免「:cursor IS NULL OR ...」使優化器放棄範圍掃描
+         */
+        String SEEK_BEFORE = "p.createdAt <= :cursorCreatedAt AND " +
+                        "(p.createdAt < :cursorCreatedAt OR p.id < :cursorId) ";
+        String SEEK_AFTER = "p.createdAt >= :cursorCreatedAt AND " +
+                        "(p.createdAt > :cursorCreatedAt OR p.id > :cursorId) ";
+        String ORDER_DESC = "ORDER BY p.createdAt DESC, p.id DESC";
+        String ORDER_ASC = "ORDER BY p.createdAt ASC, p.id ASC";
+
+        /**
+         * 查詢已核准的專案（游標分頁首頁，由新到舊）
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.status = 'APPROVED' " + ORDER_DESC)
+        Slice<ProjectSummary> findApprovedFirstPageDesc(Pageable pageable);
+
+        /**
+         * 查詢已核准的專案（游標分頁首頁，由舊到新）
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.status = 'APPROVED' " + ORDER_ASC)
+        Slice<ProjectSummary> findApprovedFirstPageAsc(Pageable pageable);
+
+        /**
+         * 查詢已核准的專案（游標之後的頁面，由新到舊）
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.status = 'APPROVED' AND " + SEEK_BEFORE + ORDER_DESC)
+        Slice<ProjectSummary> findApprovedBeforeCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 查詢已核准的專案（游標之後的頁面，由舊到新）
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.status = 'APPROVED' AND " + SEEK_AFTER + ORDER_ASC)
+        Slice<ProjectSummary> findApprovedAfterCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 查詢已核准的專案（游標分頁）
+         *
+         * @param after     上一頁最後一筆的位置，首頁為 null
+         * @param direction 排序方向
+         * @param pageable  分頁參數（只使用頁面大小）
+         */
+        default Slice<ProjectSummary> findApprovedByCursor(ProjectCursor after, Sort.Direction direction,
+                        Pageable pageable) {
+                boolean asc = direction == Sort.Direction.ASC;
+                if (after == null) {
+                        return asc ? findApprovedFirstPageAsc(pageable) : findApprovedFirstPageDesc(pageable);
+                }
+                return asc
+                                ? findApprovedAfterCursor(after.getCreatedAt(), after.getId(), pageable)
+                                : findApprovedBeforeCursor(after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        /**
+         * 進階搜尋專案（游標分頁首頁，由新到舊）
+         */
+        @Query(SUMMARY_SELECT + "WHERE " +
+                        "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                        "(:status IS NULL OR p.status = :status) " + ORDER_DESC)
+        Slice<ProjectSummary> searchProjectsAdvancedFirstPageDesc(@Param("keyword") String keyword,
+                        @Param("categoryId") Long categoryId,
+                        @Param("status") Project.ProjectStatus status,
+                        Pageable pageable);
+
+        /**
+         * 進階搜尋專案（游標分頁首頁，由舊到新）
+         */
+        @Query(SUMMARY_SELECT + "WHERE " +
+                        "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                        "(:status IS NULL OR p.status = :status) " + ORDER_ASC)
+        Slice<ProjectSummary> searchProjectsAdvancedFirstPageAsc(@Param("keyword") String keyword,
+                        @Param("categoryId") Long categoryId,
+                        @Param("status") Project.ProjectStatus status,
+                        Pageable pageable);
+
+        /**
+         * 進階搜尋專案（游標之後的頁面，由新到舊）
+         */
+        @Query(SUMMARY_SELECT + "WHERE " +
+                        "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                        "(:status IS NULL OR p.status = :status) AND " + SEEK_BEFORE + ORDER_DESC)
+        Slice<ProjectSummary> searchProjectsAdvancedBeforeCursor(@Param("keyword") String keyword,
+                        @Param("categoryId") Long categoryId,
+                        @Param("status") Project.ProjectStatus status,
+                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 進階搜尋專案（游標之後的頁面，由舊到新）
+         */
+        @Query(SUMMARY_SELECT + "WHERE " +
+                        "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                        "(:status IS NULL OR p.status = :status) AND " + SEEK_AFTER + ORDER_ASC)
+        Slice<ProjectSummary> searchProjectsAdvancedAfterCursor(@Param("keyword") String keyword,
+                        @Param("categoryId") Long categoryId,
+                        @Param("status") Project.ProjectStatus status,
+                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 進階搜尋專案（游標分頁）
+         *
+         * @param after     上一頁最後一筆的位置，首頁為 null
+         * @param direction 排序方向
+         * @param pageable  分頁參數（只使用頁面大小）
+         */
+        default Slice<ProjectSummary> searchProjectsAdvancedByCursor(String keyword, Long categoryId,
+                        Project.ProjectStatus status, ProjectCursor after, Sort.Direction direction,
+                        Pageable pageable) {
+                boolean asc = direction == Sort.Direction.ASC;
+                if (after == null) {
+                        return asc
+                                        ? searchProjectsAdvancedFirstPageAsc(keyword, categoryId, status, pageable)
+                                        : searchProjectsAdvancedFirstPageDesc(keyword, categoryId, status, pageable);
+                }
+                return asc
+                                ? searchProjectsAdvancedAfterCursor(keyword, categoryId, status,
+                                                after.getCreatedAt(), after.getId(), pageable)
+                                : searchProjectsAdvancedBeforeCursor(keyword, categoryId, status,
+                                                after.getCreatedAt(), after.getId(), pageable);
+        }
+
+        /**
+         * 查詢已核准的專案列表投影（公開查詢）
+         */
+        @Query(value = SUMMARY_SELECT + "WHERE p.status = 'APPROVED'",
+                        countQuery = "SELECT COUNT(p) FROM Project p WHERE p.status = 'APPROVED'")
+        Page<ProjectSummary> findApprovedSummaries(Pageable pageable);
+
+        /**
+         * 依分類與狀態查詢專案列表投影
          */
-        boolean existsByIdAndCreator(Long id, User creator);
+        @Query(value = SUMMARY_SELECT + "WHERE " +
+                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                        "(:status IS NULL OR p.status = :status)",
+                        countQuery = "SELECT COUNT(p) FROM Project p WHERE " +
+                                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                                        "(:status IS NULL OR p.status = :status)")
+        Page<ProjectSummary> searchSummaries(@Param("categoryId") Long categoryId,
+                        @Param("status") Project.ProjectStatus status,
+                        Pageable pageable);
+
+        /**
+         * 查詢創建者的專案列表投影
+         */
+        @Query(value = SUMMARY_SELECT + "WHERE p.creator.id = :creatorId",
+                        countQuery = "SELECT COUNT(p) FROM Project p WHERE p.creator.id = :creatorId")
+        Page<ProjectSummary> findSummariesByCreatorId(@Param("creatorId") Long creatorId, Pageable pageable);
+
+        /**
+         * 查詢分類下的專案列表投影
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.category.id = :categoryId")
+        List<ProjectSummary> findSummariesByCategoryId(@Param("categoryId") Long categoryId);
+
+        /**
+         * 根據多個 ID 查詢專案列表投影（進行中專案登錄表使用）
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.id IN :ids ORDER BY p.endDate ASC, p.id ASC")
+        List<ProjectSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+        /**
+         * 查詢指定時間後才結束的已核准專案募資期間（進行中專案登錄表排程用）
+         */
+        @Query("SELECT p.id AS id, p.startDate AS startDate, p.endDate AS endDate FROM Project p " +
+                        "WHERE p.status = 'APPROVED' AND p.endDate > :now")
+        List<ProjectWindow> findApprovedWindowsEndingAfter(@Param("now") LocalDateTime now);
+
+        /**
+         * 專案募資期間投影
+         */
+        interface ProjectWindow {
+                Long getId();
+
+                LocalDateTime getStartDate();
+
+                LocalDateTime getEndDate();
+        }
+
+        /**
+         * 查詢正在進行中的專案列表投影
+         */
+        @Query(SUMMARY_SELECT + "WHERE p.status = 'APPROVED' AND CURRENT_TIMESTAMP BETWEEN p.startDate AND p.endDate")
+        List<ProjectSummary> findActiveSummaries();
+
+        /**
+         * 計算已核准專案數量（關鍵字查詢改由搜尋引擎計數）
+         */
+        @Query("SELECT COUNT(p) FROM Project p WHERE p.status = 'APPROVED'")
+        long countApprovedProjects();
+
+        /**
+         * 計算進階搜尋結果數量
+         */
+        @Query("SELECT COUNT(p) FROM Project p WHERE " +
+                        "(:keyword IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                        "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+                        "(:status IS NULL OR p.status = :status)")
+        long countProjectsAdvanced(@Param("keyword") String keyword,
+                        @Param("categoryId") Long categoryId,
+                        @Param("status") Project.ProjectStatus status);
 
         /**
-         * 根據 ID 查詢專案（包含創建者資訊）
+         * 檢查專案是否屬於指定使用者（只比對外鍵，不需要載入使用者）
          */
-        @Query("SELECT p FROM Project p LEFT JOIN FETCH p.creator WHERE p.id = :id")
+        boolean existsByIdAndCreator_Id(Long id, Long creatorId);
+
+        /**
+         * 根據 ID 查詢專案（包含創建者與創建者角色資訊）
+         */
+        @Query("SELECT p FROM Project p LEFT JOIN FETCH p.creator c LEFT JOIN FETCH c.role WHERE p.id = :id")
         Optional<Project> findByIdWithCreator(@Param("id") Long id);
 
+        /**
+         * 查詢專案狀態與更新時間（條件式 GET 以主鍵查詢，不載入專案）
+         */
+        @Query("SELECT p.status AS status, p.updatedAt AS updatedAt FROM Project p WHERE p.id = :id")
+        Optional<ProjectVersion> findVersionById(@Param("id") Long id);
+
+        /**
+         * 專案版本投影
+         */
+        interface ProjectVersion {
+                Project.ProjectStatus getStatus();
+
+                LocalDateTime getUpdatedAt();
+        }
+
         /**
          * 根據分類查詢專案（使用下劃線屬性導航）
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         List<Project> findByCategory_Id(Long categoryId);
 
         /**
          * 查詢正在進行中的專案
          */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
         @Query("SELECT p FROM Project p WHERE p.status = 'APPROVED' AND " +
                         "CURRENT_TIMESTAMP BETWEEN p.startDate AND p.endDate")
         List<Project> findActiveProjects();
+
+        /**
+         * 根據多個 ID 查詢專案（搜尋引擎結果載入用）
+         */
+        @EntityGraph(attributePaths = { GRAPH_CREATOR, GRAPH_CREATOR_ROLE })
+        List<Project> findByIdIn(Collection<Long> ids);
+
+        /**
+         * 搜尋索引投影的 SELECT 與 FROM 子句
+         */
+        String INDEX_ENTRY_SELECT = "SELECT new com.fourseasons.crowdfunding.app.dto.project.ProjectIndexEntry(" +
+                        "p.id, p.title, p.description, p.status, p.category.id, p.createdAt) FROM Project p ";
+
+        /**
+         * 依 ID 遞增讀取下一批搜尋索引投影（以主鍵續查，避免 OFFSET 與總數查詢）
+         */
+        @Query(INDEX_ENTRY_SELECT + "WHERE p.id > :afterId ORDER BY p.id")
+        List<ProjectIndexEntry> findIndexEntriesAfter(@Param("afterId") long afterId, Pageable pageable);
+
+        /**
+         * 依 ID 遞增讀取指定時間之後更新過的搜尋索引投影
+         */
+        @Query(INDEX_ENTRY_SELECT + "WHERE p.updatedAt >= :since AND p.id > :afterId ORDER BY p.id")
+        List<ProjectIndexEntry> findIndexEntriesUpdatedSince(@Param("since") LocalDateTime since,
+                        @Param("afterId") long afterId, Pageable pageable);
+
+        /**
+         * 依 ID 遞增讀取下一批專案 ID
+         */
+        @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+        List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+        /**
+         * 在指定的 ID 中找出仍存在的專案
+         */
+        @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+        List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+        /**
+         * 從指定專案中找出目前可投資的專案 ID（已核准且在募資期間內）
+         */
+        @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.status = 'APPROVED' AND " +
+                        ":now BETWEEN p.startDate AND p.endDate")
+        List<Long> findOpenProjectIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+        /**
+         * 原子累加目前募資金額（僅限已核准且在募資期間內的專案）
+         * 以單一 UPDATE 完成檢查與累加，不需要先讀取專案資料列
+         * 
+         * @return 更新的資料列數，0 表示專案不存在或目前不可投資
+         */
+        @Modifying(flushAutomatically = true)
+        @Query("UPDATE Project p SET p.currentAmount = p.currentAmount + :amount, p.updatedAt = :now " +
+                        "WHERE p.id = :id AND p.status = 'APPROVED' AND :now BETWEEN p.startDate AND p.endDate")
+        int incrementCurrentAmount(@Param("id") Long id, @Param("amount") BigDecimal amount,
+                        @Param("now") LocalDateTime now);
 }
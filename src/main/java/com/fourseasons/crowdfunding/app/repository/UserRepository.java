@@ -1,9 +1,17 @@
 package com.fourseasons.crowdfunding.app.repository;
 
 import com.fourseasons.crowdfunding.app.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -39,4 +47,63 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 是否存在
      */
     boolean existsByUsername(String username);
+
+    /**
+     * 查詢可用帳號（已啟用、未手動鎖定、未在自動鎖定期間）目前的角色
+     * 只查詢狀態欄位與角色名稱，不載入使用者實體
+     * @param id 使用者 ID
+     * @param lockThreshold 自動鎖定的起算時間，早於此時間的失敗記錄視為已解鎖
+     * @return 角色名稱，帳號不可用時為空
+     */
+    @Query("SELECT r.name FROM User u JOIN u.role r WHERE u.id = :id AND u.enabled = true " +
+            "AND u.accountNonLocked = true AND (u.loginFailureCount < " + User.MAX_LOGIN_FAILURES + " " +
+            "OR u.lastFailureTime IS NULL OR u.lastFailureTime < :lockThreshold)")
+    Optional<String> findActiveRoleName(@Param("id") Long id, @Param("lockThreshold") LocalDateTime lockThreshold);
+
+    /**
+     * 更新密碼雜湊（登入時升級雜湊演算法或成本參數）
+     * 只更新密碼欄位，不載入使用者實體
+     * @param id 使用者 ID
+     * @param password 新的密碼雜湊
+     * @param now 更新時間
+     * @return 更新的資料列數
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.updatedAt = :now WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password, @Param("now") LocalDateTime now);
+
+    /**
+     * 根據使用者名稱或電子郵件查詢使用者 ID，使用者名稱相符者優先
+     * @param login 使用者名稱或電子郵件
+     * @param pageable 筆數限制
+     * @return 使用者 ID
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :login OR u.email = :login " +
+            "ORDER BY CASE WHEN u.username = :login THEN 0 ELSE 1 END")
+    List<Long> findIdsByLogin(@Param("login") String login, Pageable pageable);
+
+    /**
+     * 根據登入帳號查詢使用者 ID
+     * 與登入驗證（先比對使用者名稱、再比對電子郵件）解析為同一位使用者；
+     * 一個使用者的名稱可能等於另一個使用者的電子郵件，因此不能假設只有一筆
+     * @param login 使用者名稱或電子郵件
+     * @return 使用者 ID
+     */
+    default Optional<Long> findIdByLogin(String login) {
+        return findIdsByLogin(login, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /**
+     * 寫入登入失敗自動鎖定狀態，只更新鎖定相關欄位
+     * @param id 使用者 ID
+     * @param failureCount 失敗次數
+     * @param now 鎖定起算時間
+     * @return 更新的資料列數
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.loginFailureCount = :failureCount, u.lastFailureTime = :now, u.updatedAt = :now " +
+            "WHERE u.id = :id")
+    int lockForLoginFailures(@Param("id") Long id, @Param("failureCount") int failureCount,
+            @Param("now") LocalDateTime now);
 }
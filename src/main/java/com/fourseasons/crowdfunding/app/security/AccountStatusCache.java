@@ -0,0 +1,102 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import com.fourseasons.crowdfunding.app.event.UserChangedEvent;
+import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.fourseasons.crowdfunding.app.service.cache.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 帳號狀態本地快取
+ * 信任聲明模式下用來快速檢查帳號是否被停用、鎖定或變更角色，
+ * 在有效期間內不需要再查詢資料庫；
+ * 未命中時同一使用者只查詢一次，載入期間發生失效的結果不寫入快取
+ */
+@Component
+public class AccountStatusCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.trust-claims.status-ttl:30s}")
+    private Duration ttl;
+
+    @Value("${jwt.trust-claims.max-entries:100000}")
+    private int maxEntries;
+
+    private Cache<Long, AccountStatus> entries;
+
+    private final SingleFlight<Long, AccountStatus> loads = new SingleFlight<>();
+
+    /**
+     * 失效世代，每次失效時遞增
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 檢查帳號是否可用，且目前的角色與 Token 中的角色聲明相同
+     * 
+     * @param userId 使用者 ID
+     * @param role   Token 中的角色聲明
+     * @return 是否可用
+     */
+    public boolean isActive(Long userId, String role) {
+        AccountStatus status = loads.get(entries, userId, () -> load(userId), generation::get);
+        return status.role != null && status.role.equals(role);
+    }
+
+    /**
+     * 使指定使用者的狀態失效（鎖定、停用或角色變更時呼叫）
+     * 
+     * @param userId 使用者 ID
+     */
+    public void invalidate(Long userId) {
+        generation.incrementAndGet();
+        loads.forget(userId);
+        entries.invalidate(userId);
+    }
+
+    /**
+     * 使用者資料變更後（交易提交後）移除狀態快取
+     * 
+     * @param event 使用者變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private AccountStatus load(Long userId) {
+        LocalDateTime lockThreshold = LocalDateTime.now().minusMinutes(User.LOCK_DURATION_MINUTES);
+        return new AccountStatus(userRepository.findActiveRoleName(userId, lockThreshold).orElse(null));
+    }
+
+    /**
+     * 帳號狀態：可用時為目前的角色，不可用時角色為 null
+     */
+    private static final class AccountStatus {
+        private final String role;
+
+        private AccountStatus(String role) {
+            this.role = role;
+        }
+    }
+}
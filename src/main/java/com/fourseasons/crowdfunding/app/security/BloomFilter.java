@@ -0,0 +1,69 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 執行緒安全的布隆過濾器
+ * 判斷為不存在時必定不存在，判斷為存在時可能誤判
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 預期插入數量
+     * @param falsePositiveRate  可接受的誤判率
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitSize;
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a 64 位元雜湊
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.Role;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 目前請求的使用者
+ * 由認證主體取得的 ID、使用者名稱與角色，權限檢查不需要載入使用者實體或角色關聯
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class CurrentUser {
+
+    private final Long id;
+    private final String username;
+    private final String role;
+
+    /**
+     * 是否為管理員
+     * 
+     * @return 是否為管理員
+     */
+    public boolean isAdmin() {
+        return Role.ROLE_ADMIN.equals(role);
+    }
+
+    /**
+     * 是否為指定資源的擁有者
+     * 
+     * @param ownerId 資源擁有者 ID
+     * @return 是否為擁有者
+     */
+    public boolean isOwner(Long ownerId) {
+        return id != null && id.equals(ownerId);
+    }
+}
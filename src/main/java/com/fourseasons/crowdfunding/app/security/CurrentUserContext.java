@@ -0,0 +1,107 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import com.fourseasons.crowdfunding.app.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 目前使用者上下文
+ * 從 JwtAuthenticationFilter 設定的認證主體（User 或 JwtPrincipal）取得使用者資訊，不查詢資料庫；
+ * 在 HTTP 請求內只解析一次並保存在請求屬性中，請求結束即丟棄
+ */
+@Component
+public class CurrentUserContext {
+
+    private static final String ATTRIBUTE = CurrentUserContext.class.getName() + ".CURRENT_USER";
+
+    /**
+     * 取得目前使用者
+     * 
+     * @return 目前使用者
+     * @throws UnauthorizedException 未登入時
+     */
+    public CurrentUser get() {
+        return find().orElseThrow(() -> new UnauthorizedException("使用者不存在"));
+    }
+
+    /**
+     * 取得目前使用者（匿名請求為空）
+     * 
+     * @return 目前使用者
+     */
+    public Optional<CurrentUser> find() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof CurrentUser currentUser) {
+                return Optional.of(currentUser);
+            }
+        }
+
+        Optional<CurrentUser> resolved = resolve();
+        if (attributes != null) {
+            resolved.ifPresent(currentUser -> attributes.setAttribute(ATTRIBUTE, currentUser,
+                    RequestAttributes.SCOPE_REQUEST));
+        }
+        return resolved;
+    }
+
+    /**
+     * 從請求屬性取得目前使用者，供 Spring Security 過濾器鏈之外（SecurityContextHolder 已清除）使用；
+     * 依序使用本請求已解析的結果與 JwtAuthenticationFilter 存入請求屬性的認證
+     * 
+     * @param request HTTP 請求
+     * @return 目前使用者
+     */
+    public Optional<CurrentUser> find(HttpServletRequest request) {
+        if (request.getAttribute(ATTRIBUTE) instanceof CurrentUser currentUser) {
+            return Optional.of(currentUser);
+        }
+        if (request.getAttribute(RequestAttributeSecurityContextRepository.DEFAULT_REQUEST_ATTR_NAME)
+                instanceof SecurityContext context) {
+            return resolve(context.getAuthentication());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 取得已載入的使用者主體（一般模式下為使用者的分離副本；信任聲明模式下為空）
+     * 
+     * @return 使用者
+     */
+    public Optional<User> findLoadedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user
+                ? Optional.of(user)
+                : Optional.empty();
+    }
+
+    private Optional<CurrentUser> resolve() {
+        return resolve(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private Optional<CurrentUser> resolve(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return Optional.empty();
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User user) {
+            String role = user.getRole() != null ? user.getRole().getName() : null;
+            return Optional.of(new CurrentUser(user.getId(), user.getUsername(), role));
+        }
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return Optional.of(new CurrentUser(jwtPrincipal.getId(), jwtPrincipal.getUsername(),
+                    jwtPrincipal.getRole()));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 單機記憶體版登入失敗計數
+ * 每個使用者保存最近 {@link User#MAX_LOGIN_FAILURES} 次失敗時間的環狀陣列，
+ * 只在同一使用者上同步，不同使用者互不競爭；計數不會在節點間共享
+ */
+@Component
+@ConditionalOnProperty(name = "auth.login-failure.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginFailureStore implements LoginFailureStore {
+
+    @Value("${auth.login-failure.window:" + User.LOCK_DURATION_MINUTES + "m}")
+    private Duration window;
+
+    @Value("${auth.login-failure.max-entries:100000}")
+    private long maxEntries;
+
+    private Cache<Long, SlidingWindow> windows;
+
+    @PostConstruct
+    void init() {
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    @Override
+    public int recordFailure(Long userId) {
+        return windows.get(userId, key -> new SlidingWindow(User.MAX_LOGIN_FAILURES))
+                .record(System.nanoTime(), window.toNanos());
+    }
+
+    @Override
+    public void reset(Long userId) {
+        windows.invalidate(userId);
+    }
+
+    /**
+     * 固定容量的失敗時間環狀陣列，只需保存達到鎖定門檻所需的次數
+     */
+    private static final class SlidingWindow {
+
+        private final long[] failures;
+        private int next;
+        private int size;
+
+        private SlidingWindow(int capacity) {
+            this.failures = new long[capacity];
+        }
+
+        /**
+         * 記錄一次失敗並回傳時間窗內的失敗次數
+         */
+        private synchronized int record(long now, long windowNanos) {
+            failures[next] = now;
+            next = (next + 1) % failures.length;
+            size = Math.min(size + 1, failures.length);
+
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (now - failures[i] < windowNanos) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
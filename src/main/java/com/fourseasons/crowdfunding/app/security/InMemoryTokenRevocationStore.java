@@ -0,0 +1,61 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 單機記憶體版 Token 撤銷清單
+ * 用於測試或未部署 Redis 的環境，撤銷記錄不會在節點間共享；
+ * 每筆記錄依 Token 原本的過期時間個別到期，由 Caffeine 清除，撤銷時不需要掃描整個清單
+ */
+@Component
+@ConditionalOnProperty(name = "security.token-revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    /**
+     * 已撤銷的 Token（jti → 過期時間毫秒）
+     */
+    private final Cache<String, Long> revoked = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, Long>() {
+                @Override
+                public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+                    return remainingNanos(expiresAt);
+                }
+
+                @Override
+                public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime,
+                        long currentDuration) {
+                    return remainingNanos(expiresAt);
+                }
+
+                @Override
+                public long expireAfterRead(String tokenId, Long expiresAt, long currentTime,
+                        long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    @Override
+    public void revoke(String tokenId, Date expiration) {
+        if (expiration.getTime() > System.currentTimeMillis()) {
+            revoked.put(tokenId, expiration.getTime());
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.getIfPresent(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private static long remainingNanos(long expiresAt) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+    }
+}
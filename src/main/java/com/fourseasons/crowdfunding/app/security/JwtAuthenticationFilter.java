@@ -8,18 +8,23 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.util.StringUtils;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 /**
  * JWT 認證過濾器
- * 攔截所有請求，驗證 JWT Token 並設置認證資訊
+ * 攔截所有請求，驗證 JWT Token 並設置認證資訊；
+ * 認證同時存入請求屬性，非同步回應（CompletableFuture）的 ASYNC 重新分派不會再經過本過濾器，
+ * 由 SecurityContextHolderFilter 從請求屬性還原認證
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -31,23 +36,54 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private AccountStatusCache accountStatusCache;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * 無狀態 Session 下 Spring Security 預設使用的 SecurityContext 儲存位置（請求屬性）
+     */
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    /**
+     * 是否信任 Token 聲明（開啟後直接以聲明建立主體，不再每次查詢使用者）
+     */
+    @Value("${jwt.trust-claims:false}")
+    private boolean trustClaims;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
+        // 已由前面的過濾器認證（例如 Prometheus 靜態抓取憑證），Bearer 值不是 JWT，不再解析
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
         try {
             // 從請求中提取 JWT Token
             String jwt = parseJwt(request);
 
-            // 如果 Token 存在且有效，則進行認證
-            if (jwt != null && jwtUtils.isTokenValid(jwt)) {
-                String username = jwtUtils.extractUsername(jwt);
+            // 驗證 Token（簽章與過期時間只解析一次）
+            JwtClaims claims = jwt != null ? jwtUtils.verifyToken(jwt).orElse(null) : null;
+
+            // 已登出（撤銷）的 Token 不予認證
+            if (claims != null && claims.getTokenId() != null
+                    && tokenRevocationStore.isRevoked(claims.getTokenId())) {
+                logger.debug("Token '{}' has been revoked", claims.getTokenId());
+                claims = null;
+            }
+
+            if (claims != null) {
+                String username = claims.getSubject();
 
                 // 載入使用者詳情
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = resolveUserDetails(claims);
 
                 // 驗證 Token 與使用者詳情是否匹配
-                if (jwtUtils.validateToken(jwt, userDetails)) {
+                if (userDetails != null && username.equals(userDetails.getUsername())) {
                     // 創建認證 Token
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails,
@@ -57,8 +93,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // 設置認證詳情
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    // 設置認證到 Security Context
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // 設置認證到 Security Context，並存入請求屬性供 ASYNC 分派還原
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    SecurityContextHolder.setContext(context);
+                    securityContextRepository.saveContext(context, request, response);
 
                     logger.debug("User '{}' authenticated successfully", username);
                 }
@@ -71,6 +110,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 取得 Token 對應的使用者詳情
+     * 信任聲明模式下直接由聲明建立主體，只檢查本地帳號狀態快取；
+     * 角色聲明必須與目前的角色相同，角色變更後（例如取消管理員）舊 Token 不再通過
+     * 
+     * @param claims 已驗證的聲明
+     * @return 使用者詳情，帳號不可用時為 null
+     */
+    private UserDetails resolveUserDetails(JwtClaims claims) {
+        if (trustClaims && claims.getUserId() != null && claims.getRole() != null) {
+            if (!accountStatusCache.isActive(claims.getUserId(), claims.getRole())) {
+                logger.debug("User '{}' is disabled, locked or no longer has role '{}'", claims.getSubject(),
+                        claims.getRole());
+                return null;
+            }
+            return JwtPrincipal.fromClaims(claims);
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     /**
      * 從 HTTP 請求中解析 JWT Token
      * 
@@ -78,12 +137,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * @return JWT Token 或 null
      */
     private String parseJwt(HttpServletRequest request) {
-        String headerAuth = request.getHeader("Authorization");
-
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            return headerAuth.substring(7);
-        }
-
-        return null;
+        return jwtUtils.parseBearerToken(request.getHeader("Authorization"));
     }
 }
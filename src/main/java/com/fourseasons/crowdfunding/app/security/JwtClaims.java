@@ -0,0 +1,32 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Date;
+
+/**
+ * 已驗證的 JWT 聲明快照
+ * 由 {@link JwtUtils#verifyToken(String)} 一次解析產生，建立後不可變更
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class JwtClaims {
+
+    /** Token ID（jti） */
+    private final String tokenId;
+
+    /** 主體（使用者名稱） */
+    private final String subject;
+
+    /** 使用者 ID */
+    private final Long userId;
+
+    /** 角色名稱 */
+    private final String role;
+
+    /** 過期時間 */
+    private final Date expiration;
+}
@@ -0,0 +1,51 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 由已驗證 JWT 聲明建立的輕量使用者主體
+ * 用於信任聲明模式，不需要查詢資料庫即可完成認證
+ */
+@Getter
+@ToString
+public final class JwtPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final String role;
+    private final List<GrantedAuthority> authorities;
+
+    private JwtPrincipal(Long id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    /**
+     * 從 JWT 聲明建立主體
+     * 
+     * @param claims 已驗證的聲明
+     * @return 使用者主體
+     */
+    public static JwtPrincipal fromClaims(JwtClaims claims) {
+        return new JwtPrincipal(claims.getUserId(), claims.getSubject(), claims.getRole());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
@@ -1,36 +1,168 @@
 package com.fourseasons.crowdfunding.app.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * JWT 工具類
  * 負責生成、驗證和解析 JWT Token
+ * 金鑰環由設定載入（jwt.keys.&lt;kid&gt;），所有節點以同一份設定決定簽發用金鑰與可驗證的金鑰；
+ * 輪替時先在所有節點加入新金鑰，再切換 jwt.active-kid，舊 Token 過期後才移除舊金鑰
  */
 @Component
-public class JwtUtils {
+public class JwtUtils implements EnvironmentAware {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
-    @Value("${jwt.secret}")
+    /** 金鑰環設定前綴 */
+    static final String KEYS_PREFIX = "jwt.keys";
+
+    @Value("${jwt.secret:}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.key-id:default}")
+    private String keyId;
+
+    /**
+     * 目前用於簽發 Token 的金鑰 ID（未設定時沿用 jwt.key-id）
+     */
+    @Value("${jwt.active-kid:${jwt.key-id:default}}")
+    private String activeKeyId;
+
+    /**
+     * 未帶 kid 的舊 Token 所使用的金鑰 ID；留空時拒絕未帶 kid 的 Token
+     */
+    @Value("${jwt.legacy-kid:${jwt.key-id:default}}")
+    private String legacyKeyId;
+
+    /**
+     * 設定中的金鑰（kid → 金鑰內容）
+     */
+    private Map<String, String> keys = Collections.emptyMap();
+
+    /**
+     * 金鑰環（kid → 簽名金鑰），啟動後不再變動
+     */
+    private Map<String, SecretKey> keyRing = Collections.emptyMap();
+
+    /**
+     * 共用的 JWT 解析器（執行緒安全，啟動時建立一次）
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * 讀取 jwt.keys.&lt;kid&gt; 金鑰設定
+     */
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.keys = Binder.get(environment)
+                .bind(KEYS_PREFIX, Bindable.mapOf(String.class, String.class))
+                .orElse(Collections.emptyMap());
+    }
+
+    /**
+     * 初始化金鑰環與解析器
+     * jwt.secret 視為 jwt.key-id 對應的金鑰，jwt.keys 中同名的設定優先
+     */
+    @PostConstruct
+    void init() {
+        Map<String, SecretKey> ring = new LinkedHashMap<>();
+        if (StringUtils.hasText(secret)) {
+            ring.put(keyId, buildSigningKey(secret));
+        }
+        keys.forEach((kid, keySecret) -> ring.put(kid, buildSigningKey(keySecret)));
+        if (!ring.containsKey(activeKeyId)) {
+            throw new IllegalStateException("JWT active key id '" + activeKeyId + "' is not configured");
+        }
+        if (StringUtils.hasText(legacyKeyId) && !ring.containsKey(legacyKeyId)) {
+            throw new IllegalStateException("JWT legacy key id '" + legacyKeyId + "' is not configured");
+        }
+        this.keyRing = Collections.unmodifiableMap(ring);
+        logger.info("JWT key ring loaded: kids={}, active='{}'", ring.keySet(), activeKeyId);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /** 使用者 ID 聲明名稱 */
+    public static final String CLAIM_USER_ID = "userId";
+
+    /** 角色聲明名稱 */
+    public static final String CLAIM_ROLE = "role";
+
+    /**
+     * 驗證 Token 並一次取得所有需要的聲明
+     * 簽章與過期時間在同一次解析中檢查，失敗時回傳空值
+     * 
+     * @param token JWT Token
+     * @return 已驗證的聲明快照
+     */
+    public Optional<JwtClaims> verifyToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            Number userId = claims.get(CLAIM_USER_ID, Number.class);
+            return Optional.of(new JwtClaims(
+                    claims.getId(),
+                    claims.getSubject(),
+                    userId != null ? userId.longValue() : null,
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.getExpiration()));
+        } catch (Exception e) {
+            logger.error("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 從 Authorization 標頭解析 Bearer Token
+     * 
+     * @param headerAuth Authorization 標頭值
+     * @return JWT Token 或 null
+     */
+    public String parseBearerToken(String headerAuth) {
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
+            return headerAuth.substring(7);
+        }
+        return null;
+    }
+
     /**
      * 從 Token 中提取使用者名稱
      * 
@@ -70,11 +202,7 @@ public class JwtUtils {
      * @return 所有聲明
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -118,11 +246,13 @@ public class JwtUtils {
      */
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(keyRing.get(activeKeyId), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -139,13 +269,31 @@ public class JwtUtils {
     }
 
     /**
-     * 獲取簽名金鑰
+     * 根據 kid 取得驗證用金鑰；未帶 kid 的舊 Token 固定使用 jwt.legacy-kid 指定的金鑰，
+     * 不隨簽發用金鑰切換而改變
+     * 
+     * @param kid 金鑰 ID
+     * @return 簽名金鑰
+     */
+    private Key resolveKey(String kid) {
+        if (kid == null && !StringUtils.hasText(legacyKeyId)) {
+            throw new SignatureException("JWT token without key id is not accepted");
+        }
+        SecretKey key = keyRing.get(kid != null ? kid : legacyKeyId);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 建立簽名金鑰
      * 
+     * @param keySecret 金鑰內容
      * @return 簽名金鑰
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static SecretKey buildSigningKey(String keySecret) {
+        return Keys.hmacShaKeyFor(keySecret.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -156,10 +304,7 @@ public class JwtUtils {
      */
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
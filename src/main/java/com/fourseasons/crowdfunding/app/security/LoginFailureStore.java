@@ -0,0 +1,24 @@
+package com.fourseasons.crowdfunding.app.security;
+
+/**
+ * 登入失敗計數儲存
+ * 以使用者 ID 為鍵，在滑動時間窗內累計失敗次數，計數不寫入 users 資料表；
+ * 同一使用者以使用者名稱或電子郵件登入都累計在同一個計數
+ */
+public interface LoginFailureStore {
+
+    /**
+     * 記錄一次登入失敗
+     * 
+     * @param userId 使用者 ID
+     * @return 時間窗內的失敗次數（含本次）
+     */
+    int recordFailure(Long userId);
+
+    /**
+     * 清除失敗計數（登入成功或已鎖定帳號時呼叫）
+     * 
+     * @param userId 使用者 ID
+     */
+    void reset(Long userId);
+}
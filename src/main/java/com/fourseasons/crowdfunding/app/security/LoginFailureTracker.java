@@ -0,0 +1,93 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import com.fourseasons.crowdfunding.app.event.UserChangedEvent;
+import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 登入失敗記錄
+ * 失敗次數保存在 {@link LoginFailureStore}，只有達到鎖定門檻（鎖定狀態改變）時才寫入 users 資料列；
+ * 登入成功只清除計數，鎖定到期由 {@link User#isAccountNonLocked()} 依失敗時間判斷，不需要寫回解鎖；
+ * 計數以使用者 ID 為鍵，輪流以使用者名稱與電子郵件（或大小寫變化）嘗試不會分散計數
+ */
+@Component
+@Slf4j
+public class LoginFailureTracker {
+
+    @Autowired
+    private LoginFailureStore loginFailureStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter lockouts;
+
+    @PostConstruct
+    void init() {
+        this.lockouts = Counter.builder("auth.login.lockouts").register(meterRegistry);
+    }
+
+    /**
+     * 記錄密碼錯誤；時間窗內失敗次數達到門檻時鎖定帳號
+     * 
+     * @param account 登入帳號（電子郵件或使用者名稱）
+     */
+    public void recordFailure(String account) {
+        Long userId;
+        try {
+            userId = userRepository.findIdByLogin(account).orElse(null);
+            if (userId == null) {
+                // 帳號不存在，沒有可鎖定的使用者
+                return;
+            }
+            if (loginFailureStore.recordFailure(userId) < User.MAX_LOGIN_FAILURES) {
+                return;
+            }
+            loginFailureStore.reset(userId);
+        } catch (RuntimeException e) {
+            log.warn("記錄登入失敗次數失敗 - 帳號: {}", account, e);
+            return;
+        }
+        lock(userId);
+    }
+
+    /**
+     * 登入成功時清除失敗計數（不寫入 users 資料列）
+     * 
+     * @param userId 使用者 ID
+     */
+    public void recordSuccess(Long userId) {
+        try {
+            loginFailureStore.reset(userId);
+        } catch (RuntimeException e) {
+            log.warn("清除登入失敗次數失敗 - 使用者ID: {}", userId, e);
+        }
+    }
+
+    /**
+     * 寫入鎖定狀態；批次更新不觸發實體監聽器，另行發布使用者變更事件以移除快取
+     */
+    private void lock(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (userRepository.lockForLoginFailures(userId, User.MAX_LOGIN_FAILURES, now) > 0) {
+            lockouts.increment();
+            eventPublisher.publishEvent(new UserChangedEvent(this, userId));
+            log.warn("登入失敗次數過多，帳號鎖定 {} 分鐘 - 使用者ID: {}", User.LOCK_DURATION_MINUTES, userId);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import com.fourseasons.crowdfunding.app.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 登入速率限制
+ * 依來源 IP 與登入帳號各自維護權杖桶，在雜湊密碼之前拒絕超量請求；
+ * 每個請求扣除來源 IP 權杖，帳號權杖只在密碼驗證失敗時扣除，准入時只檢查是否還有權杖：
+ * 帳號是請求者自行填寫的，若准入就扣除，任何人不需要知道密碼就能耗盡他人的帳號桶，使其無法登入。
+ * 帳號桶容量預設與鎖定門檻（{@link User#MAX_LOGIN_FAILURES}）一致，針對單一帳號的猜測在達到鎖定前就會被限速；
+ * users 資料表的 login_failure_count 只在鎖定時寫入（失敗次數保存在 {@link LoginFailureStore}），
+ * 不適合在每次准入時查詢，因此帳號桶仍保存在記憶體
+ */
+@Component
+public class LoginRateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${auth.rate-limit.ip.refill-per-minute:20}")
+    private int ipRefillPerMinute;
+
+    @Value("${auth.rate-limit.account.capacity:" + User.MAX_LOGIN_FAILURES + "}")
+    private int accountCapacity;
+
+    @Value("${auth.rate-limit.account.refill-per-minute:" + User.MAX_LOGIN_FAILURES + "}")
+    private int accountRefillPerMinute;
+
+    @Value("${auth.rate-limit.failure-penalty:1}")
+    private double failurePenalty;
+
+    private Cache<String, TokenBucket> ipBuckets;
+    private Cache<String, TokenBucket> accountBuckets;
+    private Counter ipRejections;
+    private Counter accountRejections;
+
+    @PostConstruct
+    void init() {
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.accountBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+        this.ipRejections = Counter.builder("auth.login.rate_limited").tag("scope", "ip").register(meterRegistry);
+        this.accountRejections = Counter.builder("auth.login.rate_limited").tag("scope", "account")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 登入前取得來源 IP 權杖，並確認帳號尚未因驗證失敗過多而被限速（不扣除帳號權杖）
+     * 
+     * @param clientIp 來源 IP
+     * @param account  登入帳號（電子郵件或使用者名稱）
+     * @throws TooManyRequestsException 超過速率限制時
+     */
+    public void acquire(String clientIp, String account) {
+        if (!ipBucket(clientIp).tryConsume()) {
+            ipRejections.increment();
+            throw new TooManyRequestsException("登入嘗試過於頻繁，請稍後再試");
+        }
+        if (!accountBucket(account).hasToken()) {
+            accountRejections.increment();
+            throw new TooManyRequestsException("此帳號登入嘗試過於頻繁，請稍後再試");
+        }
+    }
+
+    /**
+     * 記錄登入失敗（扣除帳號權杖）
+     * 
+     * @param account 登入帳號
+     */
+    public void recordFailure(String account) {
+        accountBucket(account).penalize(failurePenalty);
+    }
+
+    private TokenBucket ipBucket(String clientIp) {
+        return ipBuckets.get(String.valueOf(clientIp), key -> new TokenBucket(ipCapacity, ipRefillPerMinute));
+    }
+
+    private TokenBucket accountBucket(String account) {
+        String key = account != null ? account.trim().toLowerCase(Locale.ROOT) : "";
+        return accountBuckets.get(key, k -> new TokenBucket(accountCapacity, accountRefillPerMinute));
+    }
+}
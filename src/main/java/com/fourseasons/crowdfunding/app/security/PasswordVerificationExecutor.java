@@ -0,0 +1,119 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.exception.TooManyRequestsException;
+import com.fourseasons.crowdfunding.app.metrics.RequestDbStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 密碼驗證執行器
+ * 密碼雜湊是刻意耗費 CPU 的運算，集中在固定大小的專用執行緒池執行，
+ * 不佔用 Tomcat 請求執行緒；等待佇列有上限，滿載或排隊過久時直接回應 429，
+ * 暴力登入的突發流量不會拖慢其他端點
+ */
+@Component
+public class PasswordVerificationExecutor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.password-pool.threads:0}")
+    private int threads;
+
+    @Value("${auth.password-pool.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.password-pool.max-queue-wait:2s}")
+    private Duration maxQueueWait;
+
+    private ThreadPoolExecutor executor;
+    private Timer verifyTimer;
+    private Timer queueWaitTimer;
+    private Counter rejections;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("等待密碼驗證的請求數")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("執行中的密碼驗證數")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.password.verify")
+                .description("密碼驗證（含使用者載入與雜湊）耗時")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("密碼驗證排隊等待時間")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.password.rejected")
+                .description("因執行緒池滿載或排隊過久而拒絕的登入數")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 提交密碼驗證工作
+     * 
+     * @param verification 驗證工作（例如 AuthenticationManager.authenticate）
+     * @return 驗證結果
+     * @throws TooManyRequestsException 等待佇列已滿時
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> verification) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        // 驗證與後續階段（失敗計數、鎖定）執行的 SQL 計入原請求
+        RequestDbStats stats = RequestDbStats.current();
+        try {
+            executor.execute(() -> RequestDbStats.runWith(stats, () -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+                // 排隊過久的請求用戶端多半已逾時，不再花費 CPU 雜湊
+                if (waited > maxQueueWait.toNanos()) {
+                    rejections.increment();
+                    future.completeExceptionally(new TooManyRequestsException("登入請求過多，請稍後再試"));
+                    return;
+                }
+                try {
+                    future.complete(verifyTimer.record(verification));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new TooManyRequestsException("登入請求過多，請稍後再試");
+        }
+        return future;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 版登入失敗計數（多節點共享）
+ * 以 Lua 腳本在同一個原子操作中 INCR 並在鍵沒有 TTL 時設定 PEXPIRE，時間窗從第一次失敗起算；
+ * 即使程序在兩個指令之間中斷，也不會留下永不過期的計數
+ */
+@Component
+@ConditionalOnProperty(name = "auth.login-failure.store", havingValue = "redis")
+public class RedisLoginFailureStore implements LoginFailureStore {
+
+    private static final String KEY_PREFIX = "auth:login-failures:";
+
+    private static final RedisScript<Long> INCREMENT_WITH_TTL = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+                    "if redis.call('PTTL', KEYS[1]) == -1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+                    "return count",
+            Long.class);
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${auth.login-failure.window:" + User.LOCK_DURATION_MINUTES + "m}")
+    private Duration window;
+
+    @Override
+    public int recordFailure(Long userId) {
+        Long count = redisTemplate.execute(INCREMENT_WITH_TTL, List.of(KEY_PREFIX + userId),
+                String.valueOf(window.toMillis()));
+        return count != null ? count.intValue() : 0;
+    }
+
+    @Override
+    public void reset(Long userId) {
+        redisTemplate.delete(KEY_PREFIX + userId);
+    }
+}
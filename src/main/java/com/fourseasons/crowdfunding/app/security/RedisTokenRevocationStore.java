@@ -0,0 +1,209 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis 版 Token 撤銷清單（多節點共享）
+ * 本地布隆過濾器在前，絕大多數未撤銷的 Token 不需要查詢 Redis；
+ * 新撤銷的 jti 透過 pub/sub 同步到所有節點的布隆過濾器；
+ * 插入數超過預期時在背景執行緒重建（SCAN Redis），不佔用觸發的請求執行緒或訂閱執行緒；
+ * 先訂閱再 SCAN，重建期間收到的撤銷先暫存，在同一把鎖內併入新過濾器後才替換，
+ * SCAN 開始前已寫入 Redis 的記錄由 SCAN 取得，之後的記錄由暫存取得，兩者之間不會遺漏
+ */
+@Component
+@ConditionalOnProperty(name = "security.token-revocation.store", havingValue = "redis")
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisTokenRevocationStore.class);
+
+    private static final String KEY_PREFIX = "auth:revoked:";
+    private static final String CHANNEL = "auth:revoked";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Value("${security.token-revocation.bloom.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${security.token-revocation.bloom.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * 重建期間新增的撤銷，替換過濾器前併入新過濾器；不在重建時為 null，由 {@link #filterLock} 保護
+     */
+    private List<String> addedDuringRebuild;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    /**
+     * 過濾器寫入與替換鎖；只保護記憶體內的短暫操作，不在持有時存取 Redis
+     */
+    private final ReentrantLock filterLock = new ReentrantLock();
+
+    /**
+     * 重建鎖；重建期間會掃描 Redis，使用 ReentrantLock 而非 synchronized，避免釘住虛擬執行緒
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-revocation-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 訂閱撤銷通知後再從 Redis 載入現有撤銷記錄；
+     * 先載入再訂閱時，兩者之間其他節點的撤銷既不在 SCAN 結果中也收不到通知
+     */
+    @PostConstruct
+    void init() {
+        bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> addToBloomFilter(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        // start() 等待訂閱建立後才返回
+        listenerContainer.start();
+
+        try {
+            rebuildBloomFilter();
+        } catch (RuntimeException e) {
+            // 初始化失敗時不會呼叫 destroy()，在這裡停止訂閱
+            listenerContainer.stop();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void destroy() throws Exception {
+        rebuildExecutor.shutdownNow();
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Override
+    public void revoke(String tokenId, Date expiration) {
+        long ttlMillis = expiration.getTime() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(ttlMillis));
+        addToBloomFilter(tokenId);
+        redisTemplate.convertAndSend(CHANNEL, tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    /**
+     * 加入布隆過濾器；插入數超過預期時排定背景重建，以清除已過期的記錄並維持誤判率
+     */
+    private void addToBloomFilter(String tokenId) {
+        filterLock.lock();
+        try {
+            bloomFilter.put(tokenId);
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(tokenId);
+            }
+        } finally {
+            filterLock.unlock();
+        }
+        if (insertions.incrementAndGet() > expectedInsertions && rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildBloomFilter();
+                } catch (RuntimeException e) {
+                    logger.warn("Token revocation bloom filter rebuild failed: {}", e.getMessage());
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 以 Redis 中仍有效的撤銷記錄重建布隆過濾器
+     * SCAN 期間的新增先暫存，掃描完成後在 {@link #filterLock} 內併入再替換，
+     * 持有鎖期間不會有新增只寫入即將被取代的舊過濾器
+     */
+    private void rebuildBloomFilter() {
+        rebuildLock.lock();
+        try {
+            filterLock.lock();
+            try {
+                addedDuringRebuild = new ArrayList<>();
+            } finally {
+                filterLock.unlock();
+            }
+
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+            int count = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    rebuilt.put(cursor.next().substring(KEY_PREFIX.length()));
+                    count++;
+                }
+            }
+
+            filterLock.lock();
+            try {
+                for (String tokenId : addedDuringRebuild) {
+                    rebuilt.put(tokenId);
+                }
+                count += addedDuringRebuild.size();
+                bloomFilter = rebuilt;
+                insertions.set(count);
+            } finally {
+                filterLock.unlock();
+            }
+            logger.info("Token revocation bloom filter rebuilt with {} entries", count);
+        } finally {
+            filterLock.lock();
+            try {
+                addedDuringRebuild = null;
+            } finally {
+                filterLock.unlock();
+            }
+            rebuildLock.unlock();
+        }
+    }
+}
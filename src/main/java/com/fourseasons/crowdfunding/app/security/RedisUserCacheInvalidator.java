@@ -0,0 +1,91 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.event.UserChangedEvent;
+import com.fourseasons.crowdfunding.app.service.UserDetailsServiceImpl;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 使用者快取跨節點失效通知
+ * 使用者變更事件（交易提交後）透過 Redis pub/sub 廣播，
+ * 所有節點收到後移除本地的使用者詳情快取與帳號狀態快取；
+ * 未啟用時其他節點要等快取 TTL 到期才會看到停用、鎖定或角色變更
+ */
+@Component
+@ConditionalOnProperty(name = "security.user-cache.invalidation", havingValue = "redis")
+public class RedisUserCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisUserCacheInvalidator.class);
+
+    private static final String CHANNEL = "auth:user-invalidate";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private AccountStatusCache accountStatusCache;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 訂閱失效通知
+     */
+    @PostConstruct
+    void init() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidated(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 使用者資料變更後（交易提交後）通知其他節點；本節點的快取由各自的事件監聽器移除
+     * 
+     * @param event 使用者變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.getUserId()));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish user cache invalidation for user {}", event.getUserId(), e);
+        }
+    }
+
+    /**
+     * 收到失效通知（包含本節點自己發出的，重複移除無害）
+     */
+    private void onInvalidated(String message) {
+        Long userId = Long.valueOf(message);
+        userDetailsService.evict(userId);
+        accountStatusCache.invalidate(userId);
+    }
+}
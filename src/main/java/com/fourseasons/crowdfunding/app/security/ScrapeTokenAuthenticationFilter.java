@@ -0,0 +1,63 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Prometheus 抓取憑證過濾器
+ * 只處理指標抓取路徑：Bearer 值與設定的靜態抓取憑證相同時，以 METRICS 角色認證；
+ * 抓取端不需要持有會過期的管理員 JWT，憑證也只能讀取指標，不能呼叫其他管理端點
+ */
+public class ScrapeTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    /** 抓取端的角色 */
+    public static final String ROLE_METRICS = "METRICS";
+
+    /** 指標抓取路徑 */
+    public static final String SCRAPE_PATH = "/actuator/prometheus";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] scrapeToken;
+
+    /**
+     * @param scrapeToken 靜態抓取憑證（不可為空）
+     */
+    public ScrapeTokenAuthenticationFilter(String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !SCRAPE_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            byte[] presented = header.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+            // 固定時間比較，不因相同前綴長度洩漏憑證內容
+            if (MessageDigest.isEqual(presented, scrapeToken)) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(new UsernamePasswordAuthenticationToken("prometheus", null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + ROLE_METRICS))));
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
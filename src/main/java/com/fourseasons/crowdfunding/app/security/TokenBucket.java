@@ -0,0 +1,64 @@
+package com.fourseasons.crowdfunding.app.security;
+
+/**
+ * 權杖桶（速率限制）
+ * 容量為允許的瞬間突發量，權杖依固定速率補充；臨界區只做少量計算，不會阻塞
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param capacity        容量
+     * @param refillPerMinute 每分鐘補充的權杖數
+     */
+    TokenBucket(int capacity, int refillPerMinute) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / 60_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 嘗試取得一個權杖
+     * 
+     * @return 是否取得
+     */
+    synchronized boolean tryConsume() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 是否還有可用權杖（不扣除）
+     * 
+     * @return 是否至少有一個權杖
+     */
+    synchronized boolean hasToken() {
+        refill();
+        return tokens >= 1;
+    }
+
+    /**
+     * 扣除權杖（可扣至負值，之後需等待補充）
+     * 
+     * @param amount 扣除數量
+     */
+    synchronized void penalize(double amount) {
+        refill();
+        tokens -= amount;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
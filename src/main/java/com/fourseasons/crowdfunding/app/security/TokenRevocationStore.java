@@ -0,0 +1,26 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import java.util.Date;
+
+/**
+ * Token 撤銷清單（黑名單）
+ * 以 Token 的 jti 為鍵，保存到 Token 原本的過期時間為止
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 撤銷 Token
+     * 
+     * @param tokenId    Token ID（jti）
+     * @param expiration Token 過期時間，過期後記錄可自動清除
+     */
+    void revoke(String tokenId, Date expiration);
+
+    /**
+     * 檢查 Token 是否已被撤銷
+     * 
+     * @param tokenId Token ID（jti）
+     * @return 是否已撤銷
+     */
+    boolean isRevoked(String tokenId);
+}
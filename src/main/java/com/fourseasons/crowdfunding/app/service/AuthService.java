@@ -5,13 +5,19 @@ import com.fourseasons.crowdfunding.app.dto.auth.LoginRequest;
 import com.fourseasons.crowdfunding.app.dto.auth.RegisterRequest;
 import com.fourseasons.crowdfunding.app.entity.User;
 import com.fourseasons.crowdfunding.app.entity.Role;
+import com.fourseasons.crowdfunding.app.exception.TooManyRequestsException;
 import com.fourseasons.crowdfunding.app.repository.UserRepository;
 import com.fourseasons.crowdfunding.app.repository.RoleRepository;
 import com.fourseasons.crowdfunding.app.security.JwtUtils;
+import com.fourseasons.crowdfunding.app.security.LoginFailureTracker;
+import com.fourseasons.crowdfunding.app.security.LoginRateLimiter;
+import com.fourseasons.crowdfunding.app.security.PasswordVerificationExecutor;
+import com.fourseasons.crowdfunding.app.security.TokenRevocationStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 認證服務類 處理使用者註冊、登入等認證相關業務邏輯
@@ -41,6 +49,18 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private PasswordVerificationExecutor passwordVerificationExecutor;
+
+    @Autowired
+    private LoginFailureTracker loginFailureTracker;
+
     /**
      * 使用者註冊
      * 
@@ -76,8 +96,8 @@ public class AuthService {
 
         // 生成 JWT Token
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", savedUser.getId());
-        claims.put("role", savedUser.getRole().getName());
+        claims.put(JwtUtils.CLAIM_USER_ID, savedUser.getId());
+        claims.put(JwtUtils.CLAIM_ROLE, savedUser.getRole().getName());
 
         String token = jwtUtils.generateToken(savedUser, claims);
 
@@ -87,43 +107,65 @@ public class AuthService {
 
     /**
      * 使用者登入
+     * 先經過速率限制，再交由密碼驗證執行緒池雜湊比對，請求執行緒不執行密碼雜湊；
+     * 失敗次數記錄在失敗計數儲存，只有達到鎖定門檻時才寫入 users 資料列
      * 
      * @param loginRequest 登入請求
+     * @param clientIp     來源 IP
      * @return 認證回應
-     * @throws RuntimeException 如果登入失敗
+     * @throws TooManyRequestsException 超過速率限制或驗證執行緒池滿載時
      */
-    public AuthResponse login(LoginRequest loginRequest) {
-        try {
-            // 進行認證
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            // 獲取認證的使用者
-            User user = (User) authentication.getPrincipal();
-
-            // 生成 JWT Token
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("userId", user.getId());
-            claims.put("role", user.getRole().getName());
-
-            String token = jwtUtils.generateToken(user, claims);
-
-            return new AuthResponse(token, user.getId(), user.getUsername(), user.getEmail(),
-                    user.getRole().getName());
-
-        } catch (Exception e) {
-            throw new RuntimeException("登入失敗：電子郵件或密碼錯誤");
-        }
+    public CompletableFuture<AuthResponse> login(LoginRequest loginRequest, String clientIp) {
+        String account = loginRequest.getEmail();
+        loginRateLimiter.acquire(clientIp, account);
+
+        return passwordVerificationExecutor
+                .submit(() -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(account, loginRequest.getPassword())))
+                .handle((authentication, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause()
+                                : ex;
+                        if (cause instanceof TooManyRequestsException tooManyRequests) {
+                            throw tooManyRequests;
+                        }
+                        if (cause instanceof AuthenticationException) {
+                            loginRateLimiter.recordFailure(account);
+                        }
+                        if (cause instanceof BadCredentialsException) {
+                            loginFailureTracker.recordFailure(account);
+                        }
+                        throw new RuntimeException("登入失敗：電子郵件或密碼錯誤");
+                    }
+
+                    // 獲取認證的使用者
+                    User user = (User) authentication.getPrincipal();
+                    loginFailureTracker.recordSuccess(user.getId());
+
+                    // 生成 JWT Token
+                    Map<String, Object> claims = new HashMap<>();
+                    claims.put(JwtUtils.CLAIM_USER_ID, user.getId());
+                    claims.put(JwtUtils.CLAIM_ROLE, user.getRole().getName());
+
+                    String token = jwtUtils.generateToken(user, claims);
+
+                    return new AuthResponse(token, user.getId(), user.getUsername(), user.getEmail(),
+                            user.getRole().getName());
+                });
     }
 
     /**
-     * 使用者登出 注意：在 JWT 無狀態架構中，登出主要由前端處理 後端可以選擇實作 Token 黑名單機制
+     * 使用者登出 將 Token 加入撤銷清單，直到其原本的過期時間為止
+     * 
+     * @param token JWT Token（可為 null）
      */
-    public void logout() {
+    public void logout(String token) {
         SecurityContextHolder.clearContext();
-        // 這裡可以實作 Token 黑名單機制
-        // 例如將 Token 加入 Redis 黑名單
+        if (token != null) {
+            jwtUtils.verifyToken(token)
+                    .filter(claims -> claims.getTokenId() != null)
+                    .ifPresent(claims -> tokenRevocationStore.revoke(claims.getTokenId(), claims.getExpiration()));
+        }
     }
 }
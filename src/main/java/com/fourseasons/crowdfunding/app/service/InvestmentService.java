@@ -0,0 +1,96 @@
+package com.fourseasons.crowdfunding.app.service;
+
+import com.fourseasons.crowdfunding.app.dto.investment.PledgeResponse;
+import com.fourseasons.crowdfunding.app.entity.Investment;
+import com.fourseasons.crowdfunding.app.exception.ResourceNotFoundException;
+import com.fourseasons.crowdfunding.app.exception.UnauthorizedException;
+import com.fourseasons.crowdfunding.app.repository.InvestmentRepository;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 投資服務層
+ * 投資記錄以附加方式寫入，專案募資金額以原子 UPDATE 累加，
+ * 避免對熱門專案資料列做「讀取－修改－寫回」而造成鎖競爭
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class InvestmentService {
+
+    private final InvestmentRepository investmentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
+
+    /**
+     * 當前使用者投資專案
+     * 
+     * @param projectId 專案 ID
+     * @param amount    投資金額
+     * @return 投資記錄
+     */
+    public Investment invest(Long projectId, BigDecimal amount) {
+        return recordInvestment(UUID.randomUUID().toString(), currentUserContext.get().getId(), projectId, amount);
+    }
+
+    /**
+     * 記錄投資並累加專案募資金額
+     * 先以原子 UPDATE 累加專案金額並確認專案可投資，再寫入投資記錄
+     * 
+     * @param pledgeId   投資請求 ID
+     * @param investorId 投資者 ID
+     * @param projectId  專案 ID
+     * @param amount     投資金額
+     * @return 投資記錄
+     */
+    public Investment recordInvestment(String pledgeId, Long investorId, Long projectId, BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("投資金額必須大於 0");
+        }
+
+        // 先取得專案列的排他鎖再新增投資記錄：
+        // 新增時的外鍵檢查會對專案列加共享鎖，若順序相反，兩筆同專案的投資會各持共享鎖互等排他鎖而死結
+        int updated = projectRepository.incrementCurrentAmount(projectId, amount, LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalArgumentException("專案不存在或目前不開放投資");
+        }
+
+        Investment investment = new Investment();
+        investment.setPledgeId(pledgeId);
+        investment.setInvestor(userRepository.getReferenceById(investorId));
+        investment.setProject(projectRepository.getReferenceById(projectId));
+        investment.setAmount(amount);
+        investment.setStatus(Investment.InvestmentStatus.CONFIRMED);
+        return investmentRepository.save(investment);
+    }
+
+    /**
+     * 查詢當前使用者的投資處理結果
+     * 
+     * @param pledgeId 投資請求 ID
+     * @return 投資回應
+     */
+    @Transactional(readOnly = true)
+    public PledgeResponse getPledge(String pledgeId) {
+        Investment investment = investmentRepository.findByPledgeId(pledgeId)
+                .orElseThrow(() -> new ResourceNotFoundException("投資記錄不存在或仍在處理中"));
+
+        // 檢查權限：只有投資者本人可以查看
+        if (!currentUserContext.get().isOwner(investment.getInvestor().getId())) {
+            throw new UnauthorizedException("您沒有權限查看此投資記錄");
+        }
+
+        return PledgeResponse.fromInvestment(investment, investment.getProject().getId());
+    }
+}
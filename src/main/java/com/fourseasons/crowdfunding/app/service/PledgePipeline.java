@@ -0,0 +1,336 @@
+package com.fourseasons.crowdfunding.app.service;
+
+import com.fourseasons.crowdfunding.app.dto.investment.PledgeResponse;
+import com.fourseasons.crowdfunding.app.entity.Investment;
+import com.fourseasons.crowdfunding.app.exception.TooManyRequestsException;
+import com.fourseasons.crowdfunding.app.exception.UnauthorizedException;
+import com.fourseasons.crowdfunding.app.repository.InvestmentRepository;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 投資寫入管線
+ * 投資請求先放入有界佇列，由背景執行緒批次寫入：
+ * 投資記錄以 JDBC 批次新增，同一專案的金額合併成一次 UPDATE；
+ * 寫入失敗的請求在記憶體中保留一段時間（pledge.failed-retention），供查詢處理結果時回傳 REJECTED
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PledgePipeline {
+
+    private final InvestmentRepository investmentRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final InvestmentService investmentService;
+    private final PlatformTransactionManager transactionManager;
+    private final CurrentUserContext currentUserContext;
+
+    @Value("${pledge.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${pledge.max-batch-size:200}")
+    private int maxBatchSize;
+
+    @Value("${pledge.flush-interval-ms:20}")
+    private long flushIntervalMs;
+
+    @Value("${pledge.failed-retention:1h}")
+    private Duration failedRetention;
+
+    @Value("${pledge.failed-max-entries:100000}")
+    private long failedMaxEntries;
+
+    /**
+     * 回應時機：COMMIT 為寫入資料庫後回應，ENQUEUE 為排入佇列後立即回應
+     */
+    @Getter
+    @Value("${pledge.durability:COMMIT}")
+    private Durability durability;
+
+    private BlockingQueue<PendingPledge> queue;
+    private Cache<String, PendingPledge> failed;
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.failed = Caffeine.newBuilder()
+                .expireAfterWrite(failedRetention)
+                .maximumSize(failedMaxEntries)
+                .build();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.running = true;
+        this.writer = new Thread(this::runWriter, "pledge-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // 逾時仍未寫入的請求不再處理，通知等待中的請求並保留失敗結果供查詢
+        List<PendingPledge> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (!abandoned.isEmpty()) {
+            log.warn("服務關閉時仍有投資未寫入 - 筆數: {}", abandoned.size());
+            IllegalStateException cause = new IllegalStateException("服務關閉中，投資未寫入");
+            abandoned.forEach(pledge -> reject(pledge, cause));
+        }
+    }
+
+    /**
+     * 當前使用者提交投資
+     * 
+     * @param projectId 專案 ID
+     * @param amount    投資金額
+     * @return 待處理的投資
+     * @throws TooManyRequestsException 佇列已滿時
+     */
+    public PendingPledge submit(Long projectId, BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("投資金額必須大於 0");
+        }
+
+        PendingPledge pledge = new PendingPledge(UUID.randomUUID().toString(), currentUserContext.get().getId(),
+                projectId, amount);
+        if (!running || !queue.offer(pledge)) {
+            throw new TooManyRequestsException("投資請求過多，請稍後再試");
+        }
+        return pledge;
+    }
+
+    /**
+     * 查詢當前使用者的投資處理結果
+     * 寫入失敗且仍在保留期間內的請求回傳 REJECTED，其餘交由 {@link InvestmentService#getPledge(String)} 查詢
+     * 
+     * @param pledgeId 投資請求 ID
+     * @return 投資回應
+     */
+    public PledgeResponse getPledge(String pledgeId) {
+        PendingPledge pledge = failed.getIfPresent(pledgeId);
+        if (pledge == null) {
+            return investmentService.getPledge(pledgeId);
+        }
+
+        // 檢查權限：只有投資者本人可以查看
+        if (!currentUserContext.get().isOwner(pledge.getInvestorId())) {
+            throw new UnauthorizedException("您沒有權限查看此投資記錄");
+        }
+        return PledgeResponse.rejected(pledge.getPledgeId(), pledge.getProjectId(), pledge.getAmount(),
+                pledge.getFailureReason());
+    }
+
+    /**
+     * 背景寫入迴圈
+     */
+    private void runWriter() {
+        List<PendingPledge> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingPledge first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("投資批次處理失敗", e);
+                batch.forEach(pledge -> reject(pledge, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 寫入一個批次；批次失敗時退回逐筆寫入，避免單筆錯誤影響整批
+     * 批次交易的提交結果可能不明（例如提交時連線中斷），逐筆寫入以 pledge_id 唯一鍵確保同一投資只寫入一次
+     * 
+     * @param batch 投資批次
+     */
+    private void flush(List<PendingPledge> batch) {
+        Map<PendingPledge, Investment> written;
+        try {
+            written = transactionTemplate.execute(status -> writeBatch(batch));
+        } catch (Exception e) {
+            log.warn("投資批次寫入失敗，改為逐筆寫入 - 筆數: {} - 錯誤: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeSingle);
+            return;
+        }
+
+        for (PendingPledge pledge : batch) {
+            Investment investment = written.get(pledge);
+            if (investment != null) {
+                pledge.getFuture().complete(investment);
+            } else {
+                reject(pledge, new IllegalArgumentException("專案不存在或目前不開放投資"));
+            }
+        }
+    }
+
+    /**
+     * 在單一交易中批次寫入投資記錄，並依專案合併金額更新
+     * 
+     * @param batch 投資批次
+     * @return 成功寫入的投資（不可投資專案的請求不會出現在結果中）
+     */
+    private Map<PendingPledge, Investment> writeBatch(List<PendingPledge> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> projectIds = new HashSet<>();
+        batch.forEach(pledge -> projectIds.add(pledge.getProjectId()));
+        Set<Long> openProjectIds = new HashSet<>(projectRepository.findOpenProjectIds(projectIds, now));
+
+        Map<PendingPledge, Investment> written = new IdentityHashMap<>();
+        // 依專案 ID 排序更新，與同步投資及其他節點的寫入以相同順序取得專案列鎖
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        for (PendingPledge pledge : batch) {
+            if (!openProjectIds.contains(pledge.getProjectId())) {
+                continue;
+            }
+            Investment investment = new Investment();
+            investment.setPledgeId(pledge.getPledgeId());
+            investment.setInvestor(userRepository.getReferenceById(pledge.getInvestorId()));
+            investment.setProject(projectRepository.getReferenceById(pledge.getProjectId()));
+            investment.setAmount(pledge.getAmount());
+            investment.setStatus(Investment.InvestmentStatus.CONFIRMED);
+            written.put(pledge, investment);
+            deltas.merge(pledge.getProjectId(), pledge.getAmount(), BigDecimal::add);
+        }
+
+        // 先依序取得專案列的排他鎖，再新增投資記錄（新增時的外鍵檢查會對專案列加共享鎖，順序相反會死結）
+        for (Map.Entry<Long, BigDecimal> delta : deltas.entrySet()) {
+            if (projectRepository.incrementCurrentAmount(delta.getKey(), delta.getValue(), now) == 0) {
+                throw new IllegalStateException("專案 " + delta.getKey() + " 已不開放投資");
+            }
+        }
+
+        investmentRepository.saveAll(written.values());
+        return written;
+    }
+
+    /**
+     * 逐筆寫入（每筆獨立交易）
+     * 已寫入的投資（批次其實已提交，或 pledge_id 唯一鍵衝突）視為成功，
+     * 唯一鍵衝突時同一交易中的金額累加會一併回滾，不會重複累加
+     * 
+     * @param pledge 投資請求
+     */
+    private void writeSingle(PendingPledge pledge) {
+        try {
+            Optional<Investment> existing = investmentRepository.findByPledgeId(pledge.getPledgeId());
+            if (existing.isPresent()) {
+                pledge.getFuture().complete(existing.get());
+                return;
+            }
+            Investment investment = investmentService.recordInvestment(pledge.getPledgeId(), pledge.getInvestorId(),
+                    pledge.getProjectId(), pledge.getAmount());
+            pledge.getFuture().complete(investment);
+        } catch (DataIntegrityViolationException e) {
+            Optional<Investment> existing = findWritten(pledge.getPledgeId());
+            if (existing.isPresent()) {
+                pledge.getFuture().complete(existing.get());
+            } else {
+                reject(pledge, e);
+            }
+        } catch (Exception e) {
+            reject(pledge, e);
+        }
+    }
+
+    /**
+     * 查詢已寫入的投資，查詢失敗時視為未寫入
+     */
+    private Optional<Investment> findWritten(String pledgeId) {
+        try {
+            return investmentRepository.findByPledgeId(pledgeId);
+        } catch (RuntimeException e) {
+            log.warn("查詢投資寫入結果失敗 - 投資請求ID: {}", pledgeId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 標記寫入失敗：保留失敗原因供查詢，並通知等待中的請求
+     * 驗證錯誤（IllegalArgumentException）回傳原訊息，其他錯誤不對外揭露細節
+     * 
+     * @param pledge 投資請求
+     * @param cause  失敗原因
+     */
+    private void reject(PendingPledge pledge, Throwable cause) {
+        pledge.failureReason = cause instanceof IllegalArgumentException
+                ? cause.getMessage()
+                : "投資寫入失敗，請重新提交";
+        failed.put(pledge.getPledgeId(), pledge);
+        pledge.getFuture().completeExceptionally(cause);
+    }
+
+    /**
+     * 回應時機
+     */
+    public enum Durability {
+        /** 寫入資料庫後回應 */
+        COMMIT,
+        /** 排入佇列後立即回應 */
+        ENQUEUE
+    }
+
+    /**
+     * 待處理的投資請求
+     */
+    @Getter
+    public static class PendingPledge {
+        private final String pledgeId;
+        private final Long investorId;
+        private final Long projectId;
+        private final BigDecimal amount;
+        private final CompletableFuture<Investment> future = new CompletableFuture<>();
+        /** 寫入失敗原因（成功或處理中為 null） */
+        private volatile String failureReason;
+
+        PendingPledge(String pledgeId, Long investorId, Long projectId, BigDecimal amount) {
+            this.pledgeId = pledgeId;
+            this.investorId = investorId;
+            this.projectId = projectId;
+            this.amount = amount;
+        }
+    }
+}
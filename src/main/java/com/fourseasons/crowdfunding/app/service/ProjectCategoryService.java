@@ -4,14 +4,16 @@ import com.fourseasons.crowdfunding.app.dto.project.ProjectCategoryResponse;
 import com.fourseasons.crowdfunding.app.entity.ProjectCategory;
 import com.fourseasons.crowdfunding.app.exception.ResourceNotFoundException;
 import com.fourseasons.crowdfunding.app.repository.ProjectCategoryRepository;
+import com.fourseasons.crowdfunding.app.service.cache.CategoryCatalog;
+import com.fourseasons.crowdfunding.app.service.cache.ProjectPageCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 專案分類服務類
+ * 查詢由分類目錄快照提供，不查詢資料庫；異動後重建快照
  */
 @Service
 public class ProjectCategoryService {
@@ -19,16 +21,28 @@ public class ProjectCategoryService {
     @Autowired
     private ProjectCategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+
+    @Autowired
+    private ProjectPageCache projectPageCache;
+
     /**
      * 獲取所有啟用的分類
      * 
      * @return 分類列表
      */
     public List<ProjectCategoryResponse> getAllActiveCategories() {
-        return categoryRepository.findByActiveTrue()
-                .stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return categoryCatalog.current().getActiveCategories();
+    }
+
+    /**
+     * 取得分類目錄快照（啟用分類列表與其版本來自同一份快照）
+     * 
+     * @return 分類目錄快照
+     */
+    public CategoryCatalog.Snapshot getCatalog() {
+        return categoryCatalog.current();
     }
 
     /**
@@ -38,9 +52,11 @@ public class ProjectCategoryService {
      * @return 分類資訊
      */
     public ProjectCategoryResponse getCategoryById(Long categoryId) {
-        ProjectCategory category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("分類不存在"));
-        return convertToResponse(category);
+        ProjectCategoryResponse category = categoryCatalog.find(categoryId);
+        if (category == null) {
+            throw new ResourceNotFoundException("分類不存在");
+        }
+        return category;
     }
 
     /**
@@ -56,6 +72,7 @@ public class ProjectCategoryService {
         }
 
         ProjectCategory savedCategory = categoryRepository.save(category);
+        onCategoryChanged(savedCategory.getId());
         return convertToResponse(savedCategory);
     }
 
@@ -81,6 +98,7 @@ public class ProjectCategoryService {
         existingCategory.setActive(category.isActive());
 
         ProjectCategory updatedCategory = categoryRepository.save(existingCategory);
+        onCategoryChanged(categoryId);
         return convertToResponse(updatedCategory);
     }
 
@@ -95,6 +113,18 @@ public class ProjectCategoryService {
 
         category.setActive(false);
         categoryRepository.save(category);
+        onCategoryChanged(categoryId);
+    }
+
+    /**
+     * 分類異動後重建目錄快照，並失效內含分類資訊的專案列表頁
+     * 
+     * @param categoryId 異動的分類ID
+     */
+    private void onCategoryChanged(Long categoryId) {
+        categoryCatalog.reload();
+        projectPageCache.invalidate(List.of(ProjectPageCache.REGION_PUBLIC, ProjectPageCache.REGION_ACTIVE,
+                ProjectPageCache.categoryRegion(categoryId)));
     }
 
     /**
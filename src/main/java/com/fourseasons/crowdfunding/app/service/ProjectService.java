@@ -1,23 +1,44 @@
 package com.fourseasons.crowdfunding.app.service;
 
+import com.fourseasons.crowdfunding.app.dto.common.CountMode;
+import com.fourseasons.crowdfunding.app.dto.common.CursorPage;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectRequest;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectResponse;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectStatusRequest;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
 import com.fourseasons.crowdfunding.app.entity.Project;
-import com.fourseasons.crowdfunding.app.entity.User;
 import com.fourseasons.crowdfunding.app.exception.ResourceNotFoundException;
 import com.fourseasons.crowdfunding.app.exception.UnauthorizedException;
 import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
 import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.fourseasons.crowdfunding.app.security.CurrentUser;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import com.fourseasons.crowdfunding.app.service.active.ActiveProjectRegistry;
+import com.fourseasons.crowdfunding.app.service.cache.CachedProjectPage;
+import com.fourseasons.crowdfunding.app.service.cache.CategoryCatalog;
+import com.fourseasons.crowdfunding.app.service.cache.ProjectPageCache;
+import com.fourseasons.crowdfunding.app.service.cache.SingleFlight;
+import com.fourseasons.crowdfunding.app.service.search.ProjectSearchEngine;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import java.util.List;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 專案服務層
@@ -30,6 +51,21 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ProjectSearchEngine projectSearchEngine;
+    private final ProjectPageCache projectPageCache;
+    private final ActiveProjectRegistry activeProjectRegistry;
+    private final CategoryCatalog categoryCatalog;
+    private final CurrentUserContext currentUserContext;
+
+    /**
+     * 估算總數快取（查詢條件 → 總數），以短暫過期換取不必每頁都執行 COUNT
+     */
+    private final Cache<String, Long> estimatedCounts = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private final SingleFlight<String, Long> countLoads = new SingleFlight<>();
 
     /**
      * 創建專案
@@ -38,17 +74,17 @@ public class ProjectService {
      * @return 專案回應
      */
     public ProjectResponse createProject(ProjectRequest request) {
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
 
         Project project = new Project();
         project.setTitle(request.getTitle());
         project.setDescription(request.getDescription());
         project.setGoalAmount(request.getGoalAmount());
-        project.setCreator(currentUser);
+        project.setCreator(userRepository.getReferenceById(currentUser.getId()));
         project.setStatus(Project.ProjectStatus.DRAFT);
 
         Project savedProject = projectRepository.save(project);
-        return ProjectResponse.fromProject(savedProject);
+        return toResponse(savedProject);
     }
 
     /**
@@ -60,10 +96,10 @@ public class ProjectService {
      */
     public ProjectResponse updateProject(Long projectId, ProjectRequest request) {
         Project project = getProjectEntityById(projectId);
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
 
         // 檢查權限：只有創建者可以編輯
-        if (!project.getCreator().getId().equals(currentUser.getId())) {
+        if (!currentUser.isOwner(project.getCreator().getId())) {
             throw new UnauthorizedException("您沒有權限編輯此專案");
         }
 
@@ -77,7 +113,7 @@ public class ProjectService {
         project.setGoalAmount(request.getGoalAmount());
 
         Project updatedProject = projectRepository.save(project);
-        return ProjectResponse.fromProject(updatedProject);
+        return toResponse(updatedProject);
     }
 
     /**
@@ -87,11 +123,11 @@ public class ProjectService {
      */
     public void deleteProject(Long projectId) {
         Project project = getProjectEntityById(projectId);
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
 
         // 檢查權限：只有創建者或管理員可以刪除
-        if (!project.getCreator().getId().equals(currentUser.getId())
-                && !"ADMIN".equals(currentUser.getRole().getName())) {
+        if (!currentUser.isOwner(project.getCreator().getId())
+                && !currentUser.isAdmin()) {
             throw new UnauthorizedException("您沒有權限刪除此專案");
         }
 
@@ -110,14 +146,29 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("專案不存在"));
 
         // 檢查權限：只有已核准的專案或創建者可以查看
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
         if (project.getStatus() != Project.ProjectStatus.APPROVED
-                && !project.getCreator().getId().equals(currentUser.getId())
-                && !"ADMIN".equals(currentUser.getRole().getName())) {
+                && !currentUser.isOwner(project.getCreator().getId())
+                && !currentUser.isAdmin()) {
             throw new UnauthorizedException("您沒有權限查看此專案");
         }
 
-        return ProjectResponse.fromProject(project);
+        return toResponse(project);
+    }
+
+    /**
+     * 取得公開專案的更新時間（條件式 GET 在載入專案前比對版本用）
+     * 只回傳已核准專案的版本；未核准或不存在時回傳 null，交由完整查詢處理權限與錯誤
+     * 
+     * @param projectId 專案 ID
+     * @return 更新時間，非公開專案為 null
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LocalDateTime getPublicProjectVersion(Long projectId) {
+        return projectRepository.findVersionById(projectId)
+                .filter(version -> version.getStatus() == Project.ProjectStatus.APPROVED)
+                .map(ProjectRepository.ProjectVersion::getUpdatedAt)
+                .orElse(null);
     }
 
     /**
@@ -130,15 +181,17 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getProjects(String keyword, Project.ProjectStatus status, Pageable pageable) {
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
 
         // 檢查權限：只有管理員可以查看所有專案
-        if (!"ADMIN".equals(currentUser.getRole().getName())) {
+        if (!currentUser.isAdmin()) {
             throw new UnauthorizedException("您沒有權限查看所有專案");
         }
 
-        Page<Project> projects = projectRepository.searchProjects(keyword, status, pageable);
-        return projects.map(ProjectResponse::fromProject);
+        if (StringUtils.hasText(keyword)) {
+            return projectSearchEngine.search(keyword, null, status, pageable).map(this::toResponse);
+        }
+        return projectRepository.searchSummaries(null, status, pageable).map(this::toResponse);
     }
 
     /**
@@ -148,10 +201,61 @@ public class ProjectService {
      * @param pageable 分頁參數
      * @return 專案分頁回應
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ProjectResponse> getPublicProjects(String keyword, Pageable pageable) {
-        Page<Project> projects = projectRepository.findApprovedProjects(keyword, pageable);
-        return projects.map(ProjectResponse::fromProject);
+        CachedProjectPage page = getPublicProjectPage(keyword, pageable);
+        return new PageImpl<>(page.getContent(), pageable, page.getTotalElements());
+    }
+
+    /**
+     * 查詢公開專案列表頁（含列表版本）
+     * 結果對所有呼叫者相同，經由列表頁快取讀取；快取命中時不開啟交易、不取得資料庫連線
+     * 
+     * @param keyword  搜尋關鍵字
+     * @param pageable 分頁參數
+     * @return 列表頁
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CachedProjectPage getPublicProjectPage(String keyword, Pageable pageable) {
+        String normalizedKeyword = StringUtils.hasText(keyword) ? keyword.trim().toLowerCase() : "";
+        String key = normalizedKeyword + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|"
+                + pageable.getSort();
+
+        return projectPageCache.get(ProjectPageCache.REGION_PUBLIC, key, () -> {
+            Page<ProjectResponse> page = StringUtils.hasText(keyword)
+                    ? projectSearchEngine.search(keyword, null, Project.ProjectStatus.APPROVED, pageable)
+                            .map(this::toResponse)
+                    : projectRepository.findApprovedSummaries(pageable).map(this::toResponse);
+            return CachedProjectPage.of(page.getContent(), page.getTotalElements());
+        });
+    }
+
+    /**
+     * 以游標分頁查詢公開專案列表（有關鍵字時交由搜尋引擎比對，依建立時間排序）
+     * 
+     * @param keyword   搜尋關鍵字
+     * @param cursor    上一頁回傳的游標（第一頁為 null）
+     * @param size      每頁大小
+     * @param direction 建立時間排序方向
+     * @param countMode 總數計算方式
+     * @return 游標分頁回應
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> getPublicProjectsByCursor(String keyword, String cursor, int size,
+            Sort.Direction direction, CountMode countMode) {
+        String filter = "approved|" + keyword;
+        ProjectCursor position = ProjectCursor.decode(cursor, direction, filter);
+
+        if (StringUtils.hasText(keyword)) {
+            Slice<ProjectSummary> projects = projectSearchEngine.searchByCursor(keyword, null,
+                    Project.ProjectStatus.APPROVED, position, direction, size);
+            return toCursorPage(projects, direction, filter, countMode,
+                    () -> projectSearchEngine.count(keyword, null, Project.ProjectStatus.APPROVED));
+        }
+
+        Slice<ProjectSummary> projects = projectRepository.findApprovedByCursor(position, direction,
+                PageRequest.of(0, size));
+        return toCursorPage(projects, direction, filter, countMode, projectRepository::countApprovedProjects);
     }
 
     /**
@@ -162,9 +266,9 @@ public class ProjectService {
      */
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getUserProjects(Pageable pageable) {
-        User currentUser = getCurrentUser();
-        Page<Project> projects = projectRepository.findByCreator(currentUser, pageable);
-        return projects.map(ProjectResponse::fromProject);
+        CurrentUser currentUser = currentUserContext.get();
+        return projectRepository.findSummariesByCreatorId(currentUser.getId(), pageable)
+                .map(this::toResponse);
     }
 
     /**
@@ -176,10 +280,10 @@ public class ProjectService {
      */
     public ProjectResponse updateProjectStatus(Long projectId, ProjectStatusRequest request) {
         Project project = getProjectEntityById(projectId);
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
 
         // 檢查權限：只有管理員可以更新狀態
-        if (!"ADMIN".equals(currentUser.getRole().getName())) {
+        if (!currentUser.isAdmin()) {
             throw new UnauthorizedException("您沒有權限更新專案狀態");
         }
 
@@ -190,7 +294,7 @@ public class ProjectService {
 
         project.setStatus(request.getStatus());
         Project updatedProject = projectRepository.save(project);
-        return ProjectResponse.fromProject(updatedProject);
+        return toResponse(updatedProject);
     }
 
     /**
@@ -201,10 +305,10 @@ public class ProjectService {
      */
     public ProjectResponse submitProjectForReview(Long projectId) {
         Project project = getProjectEntityById(projectId);
-        User currentUser = getCurrentUser();
+        CurrentUser currentUser = currentUserContext.get();
 
         // 檢查權限：只有創建者可以提交審核
-        if (!project.getCreator().getId().equals(currentUser.getId())) {
+        if (!currentUser.isOwner(project.getCreator().getId())) {
             throw new UnauthorizedException("您沒有權限提交此專案");
         }
 
@@ -215,18 +319,7 @@ public class ProjectService {
 
         project.setStatus(Project.ProjectStatus.PENDING);
         Project updatedProject = projectRepository.save(project);
-        return ProjectResponse.fromProject(updatedProject);
-    }
-
-    /**
-     * 獲取當前使用者
-     * 
-     * @return 當前使用者
-     */
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userRepository.findByUsername(username).orElseThrow(() -> new UnauthorizedException("使用者不存在"));
+        return toResponse(updatedProject);
     }
 
     /**
@@ -240,7 +333,7 @@ public class ProjectService {
     }
 
     /**
-     * 進階搜尋專案
+     * 進階搜尋專案（有關鍵字時交由搜尋引擎處理並依相關度排序）
      * 
      * @param keyword    關鍵字
      * @param categoryId 分類ID
@@ -248,35 +341,145 @@ public class ProjectService {
      * @param pageable   分頁資訊
      * @return 專案分頁結果
      */
+    @Transactional(readOnly = true)
     public Page<ProjectResponse> searchProjects(String keyword, Long categoryId, Project.ProjectStatus status,
             Pageable pageable) {
-        Page<Project> projects = projectRepository.searchProjectsAdvanced(keyword, categoryId, status, pageable);
-        return projects.map(ProjectResponse::fromProject);
+        if (StringUtils.hasText(keyword)) {
+            return projectSearchEngine.search(keyword, categoryId, status, pageable).map(this::toResponse);
+        }
+        return projectRepository.searchSummaries(categoryId, status, pageable).map(this::toResponse);
+    }
+
+    /**
+     * 以游標分頁進階搜尋專案（有關鍵字時交由搜尋引擎比對，與 searchProjects 結果一致，但依建立時間排序）
+     * 
+     * @param keyword    關鍵字
+     * @param categoryId 分類ID
+     * @param status     專案狀態
+     * @param cursor     上一頁回傳的游標（第一頁為 null）
+     * @param size       每頁大小
+     * @param direction  建立時間排序方向
+     * @param countMode  總數計算方式
+     * @return 游標分頁回應
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponse> searchProjectsByCursor(String keyword, Long categoryId,
+            Project.ProjectStatus status, String cursor, int size, Sort.Direction direction, CountMode countMode) {
+        String filter = "search|" + keyword + "|" + categoryId + "|" + status;
+        ProjectCursor position = ProjectCursor.decode(cursor, direction, filter);
+
+        if (StringUtils.hasText(keyword)) {
+            Slice<ProjectSummary> projects = projectSearchEngine.searchByCursor(keyword, categoryId, status,
+                    position, direction, size);
+            return toCursorPage(projects, direction, filter, countMode,
+                    () -> projectSearchEngine.count(keyword, categoryId, status));
+        }
+
+        Slice<ProjectSummary> projects = projectRepository.searchProjectsAdvancedByCursor(null, categoryId,
+                status, position, direction, PageRequest.of(0, size));
+        return toCursorPage(projects, direction, filter, countMode,
+                () -> projectRepository.countProjectsAdvanced(null, categoryId, status));
     }
 
     /**
-     * 獲取正在進行中的專案
+     * 獲取正在進行中的專案（經由列表頁快取）
+     * 進行中的專案 ID 由登錄表在記憶體中維護，快取未命中時只需以主鍵載入這些專案
      * 
      * @return 進行中的專案列表
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ProjectResponse> getActiveProjects() {
-        List<Project> projects = projectRepository.findActiveProjects();
-        return projects.stream()
-                .map(ProjectResponse::fromProject)
-                .collect(java.util.stream.Collectors.toList());
+        return getActiveProjectPage().getContent();
+    }
+
+    /**
+     * 獲取正在進行中的專案列表頁（含列表版本）
+     * 
+     * @return 列表頁
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CachedProjectPage getActiveProjectPage() {
+        return projectPageCache.get(ProjectPageCache.REGION_ACTIVE, "all", () -> {
+            List<Long> activeIds = activeProjectRegistry.getActiveProjectIds();
+            return toCachedPage(activeIds.isEmpty() ? List.of() : projectRepository.findSummariesByIdIn(activeIds));
+        });
     }
 
     /**
-     * 根據分類獲取專案
+     * 根據分類獲取專案（經由列表頁快取）
      * 
      * @param categoryId 分類ID
      * @return 專案列表
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ProjectResponse> getProjectsByCategory(Long categoryId) {
-        List<Project> projects = projectRepository.findByCategory_Id(categoryId);
-        return projects.stream()
-                .map(ProjectResponse::fromProject)
-                .collect(java.util.stream.Collectors.toList());
+        return getProjectsByCategoryPage(categoryId).getContent();
+    }
+
+    /**
+     * 根據分類獲取專案列表頁（含列表版本）
+     * 
+     * @param categoryId 分類ID
+     * @return 列表頁
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CachedProjectPage getProjectsByCategoryPage(Long categoryId) {
+        return projectPageCache.get(ProjectPageCache.categoryRegion(categoryId), "all",
+                () -> toCachedPage(projectRepository.findSummariesByCategoryId(categoryId)));
+    }
+
+    /**
+     * 將投影列表轉換為可快取的列表頁
+     */
+    private CachedProjectPage toCachedPage(List<ProjectSummary> projects) {
+        List<ProjectResponse> responses = projects.stream()
+                .map(this::toResponse)
+                .toList();
+        return CachedProjectPage.of(responses, responses.size());
+    }
+
+    /**
+     * 將查詢結果轉換為游標分頁回應
+     * 
+     * @param projects  查詢結果
+     * @param direction 排序方向（寫入下一頁游標）
+     * @param filter    查詢條件（寫入下一頁游標，並作為估算總數的快取鍵）
+     * @param countMode 總數計算方式
+     * @param counter   總數查詢
+     * @return 游標分頁回應
+     */
+    private CursorPage<ProjectResponse> toCursorPage(Slice<ProjectSummary> projects, Sort.Direction direction,
+            String filter, CountMode countMode, Supplier<Long> counter) {
+        List<ProjectSummary> content = projects.getContent();
+        String nextCursor = projects.hasNext() && !content.isEmpty()
+                ? ProjectCursor.of(content.get(content.size() - 1), direction, filter).encode()
+                : null;
+
+        Long total = null;
+        if (countMode == CountMode.EXACT) {
+            total = counter.get();
+        } else if (countMode == CountMode.ESTIMATE) {
+            total = countLoads.get(estimatedCounts, filter, counter);
+        }
+
+        List<ProjectResponse> responses = content.stream()
+                .map(this::toResponse)
+                .toList();
+        return new CursorPage<>(responses, nextCursor, projects.hasNext(), total);
+    }
+
+    /**
+     * 轉換為回應 DTO，分類資訊取自分類目錄快照
+     */
+    private ProjectResponse toResponse(Project project) {
+        return ProjectResponse.fromProject(project, categoryCatalog::find);
+    }
+
+    /**
+     * 將列表投影轉換為回應 DTO，分類資訊取自分類目錄快照
+     */
+    private ProjectResponse toResponse(ProjectSummary summary) {
+        return ProjectResponse.fromSummary(summary, categoryCatalog::find);
     }
 
     /**
@@ -1,23 +1,77 @@
 package com.fourseasons.crowdfunding.app.service;
 
 import com.fourseasons.crowdfunding.app.entity.User;
+import com.fourseasons.crowdfunding.app.event.UserChangedEvent;
 import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 /**
  * UserDetailsService 實作類 負責載入使用者詳情以支援 Spring Security
+ * 載入結果以分離副本快取於本地，每次回傳新的副本，呼叫端（含 SecurityContext）修改不會污染快取；
+ * 使用者資料變更時透過事件失效，多節點部署需開啟 security.user-cache.invalidation=redis 廣播失效，
+ * 否則其他節點最長要等 TTL 到期；
+ * 另實作 UserDetailsPasswordService，登入成功時由認證提供者升級過時的密碼雜湊
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.user-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.user-cache.ttl:5m}")
+    private Duration ttl;
+
+    /**
+     * 使用者快取（使用者 ID → 分離副本）
+     */
+    private Cache<Long, User> users;
+
+    /**
+     * 登入名稱索引（使用者名稱或電子郵件 → 使用者 ID）
+     */
+    private Cache<String, Long> loginIndex;
+
+    /**
+     * 初始化快取並註冊監控指標
+     */
+    @PostConstruct
+    void init() {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.loginIndex = Caffeine.newBuilder()
+                .maximumSize(maxSize * 2)
+                .expireAfterWrite(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "userDetails");
+    }
+
     /**
      * 根據使用者名稱載入使用者詳情
      * 
@@ -26,8 +80,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @throws UsernameNotFoundException 如果找不到使用者
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Long cachedId = loginIndex.getIfPresent(username);
+        if (cachedId != null) {
+            User cached = users.getIfPresent(cachedId);
+            if (cached != null) {
+                return cached.detachedCopy();
+            }
+        }
+
         // 嘗試根據使用者名稱或電子郵件查找使用者
         User user = userRepository.findByUsername(username)
                 .orElseGet(() -> userRepository.findByEmail(username).orElse(null));
@@ -36,7 +98,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
             throw new UsernameNotFoundException("找不到使用者: " + username);
         }
 
-        return user;
+        return cache(user);
     }
 
     /**
@@ -46,11 +108,76 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @return 使用者詳情
      * @throws UsernameNotFoundException 如果找不到使用者
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserById(Long userId) throws UsernameNotFoundException {
+        User cached = users.getIfPresent(userId);
+        if (cached != null) {
+            return cached.detachedCopy();
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("找不到使用者 ID: " + userId));
 
-        return user;
+        return cache(user);
+    }
+
+    /**
+     * 以新的雜湊取代過時的密碼雜湊
+     * 批次更新不觸發使用者變更事件，直接移除快取
+     * 
+     * @param user        已通過驗證的使用者
+     * @param newPassword 以目前設定編碼的新雜湊
+     * @return 帶有新雜湊的使用者詳情
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User current = (User) user;
+        if (userRepository.updatePassword(current.getId(), newPassword, LocalDateTime.now()) == 0) {
+            return user;
+        }
+        evict(current.getId());
+        log.info("已升級使用者密碼雜湊 - 使用者ID: {}", current.getId());
+
+        User upgraded = current.detachedCopy();
+        upgraded.setPassword(newPassword);
+        return upgraded;
+    }
+
+    /**
+     * 使用者資料變更後（交易提交後）移除快取
+     * 
+     * @param event 使用者變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    /**
+     * 移除指定使用者的快取
+     * 
+     * @param userId 使用者 ID
+     */
+    public void evict(Long userId) {
+        User removed = users.asMap().remove(userId);
+        if (removed != null) {
+            loginIndex.invalidate(removed.getUsername());
+            loginIndex.invalidate(removed.getEmail());
+        }
+    }
+
+    /**
+     * 將使用者的分離副本放入快取
+     * 
+     * @param user 受管理的使用者實體
+     * @return 另一份分離副本（不與快取共用）
+     */
+    private User cache(User user) {
+        User snapshot = user.detachedCopy();
+        users.put(snapshot.getId(), snapshot);
+        loginIndex.put(snapshot.getUsername(), snapshot.getId());
+        loginIndex.put(snapshot.getEmail(), snapshot.getId());
+        return snapshot.detachedCopy();
     }
 }
@@ -3,8 +3,8 @@ package com.fourseasons.crowdfunding.app.service;
 import com.fourseasons.crowdfunding.app.dto.user.UserResponse;
 import com.fourseasons.crowdfunding.app.entity.User;
 import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,18 +17,20 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CurrentUserContext currentUserContext;
+
     /**
      * 獲取當前登入使用者的資訊
+     * 認證主體已是載入的使用者時直接轉換；信任聲明模式下以使用者 ID 查詢
      * 
      * @return 使用者回應 DTO
      * @throws RuntimeException 如果找不到使用者
      */
     @Transactional(readOnly = true)
     public UserResponse getCurrentUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-
-        User user = userRepository.findByUsername(username)
-                .orElseGet(() -> userRepository.findByEmail(username).orElse(null));
+        User user = currentUserContext.findLoadedUser()
+                .orElseGet(() -> userRepository.findById(currentUserContext.get().getId()).orElse(null));
 
         if (user == null) {
             throw new RuntimeException("找不到當前使用者");
@@ -0,0 +1,245 @@
+package com.fourseasons.crowdfunding.app.service.active;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.event.ProjectChangedEvent;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import com.fourseasons.crowdfunding.app.service.cache.ProjectPageCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 進行中專案登錄表
+ * 啟動時載入尚未結束的已核准專案，依各專案的開始、結束時間在時間輪上排程，
+ * 到點時加入或移出進行中集合，不需要以 CURRENT_TIMESTAMP BETWEEN 掃描資料表；
+ * 專案變更事件會重新排程該專案，另以固定間隔全量重新同步，涵蓋其他節點的變更；
+ * 全量同步在獨立的執行緒查詢資料庫，不佔用時間輪的驅動執行緒，套用結果時逐一專案比對世代，
+ * 查詢開始之後才由變更事件排程或移除的專案以事件為準，不會被較舊的查詢結果覆蓋
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveProjectRegistry {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final ProjectRepository projectRepository;
+    private final ProjectPageCache projectPageCache;
+
+    @Value("${active-projects.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${active-projects.wheel-size:60}")
+    private int wheelSize;
+
+    @Value("${active-projects.resync-interval:5m}")
+    private Duration resyncInterval;
+
+    /**
+     * 目前進行中的專案 ID
+     */
+    private final Set<Long> activeIds = new ConcurrentSkipListSet<>();
+
+    /**
+     * 各專案目前的排程；專案重新排程後，先前排入時間輪的任務到點時會因世代不符而略過。
+     * 變更事件移除的專案保留一筆沒有募資期間的排程作為移除記錄，讓之後套用的較舊同步結果不會再把它加回來，
+     * 下一次同步時清除
+     */
+    private final Map<Long, ProjectSchedule> schedules = new ConcurrentHashMap<>();
+
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    /**
+     * 排程與進行中集合的變更鎖；資料庫查詢不在鎖內進行
+     */
+    private final Object lock = new Object();
+
+    private TimingWheelTimer timer;
+    private ScheduledExecutorService resyncExecutor;
+
+    @PostConstruct
+    void start() {
+        timer = new TimingWheelTimer("active-project-timer", tickMs, wheelSize);
+        resync();
+        resyncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "active-project-resync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        resyncExecutor.scheduleWithFixedDelay(this::resync, resyncInterval.toMillis(), resyncInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (resyncExecutor != null) {
+            resyncExecutor.shutdownNow();
+        }
+        timer.shutdown();
+    }
+
+    /**
+     * 取得目前進行中的專案 ID
+     * 
+     * @return 專案 ID（遞增排序）
+     */
+    public List<Long> getActiveProjectIds() {
+        return new ArrayList<>(activeIds);
+    }
+
+    /**
+     * 專案變更後重新排程該專案
+     * 
+     * @param event 專案變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        boolean changed;
+        synchronized (lock) {
+            if (event.isDeleted() || event.getStatus() != Project.ProjectStatus.APPROVED) {
+                schedules.put(event.getProjectId(),
+                        new ProjectSchedule(generationSequence.incrementAndGet(), null, null));
+                changed = activeIds.remove(event.getProjectId());
+            } else {
+                changed = schedule(event.getProjectId(), event.getStartDate(), event.getEndDate());
+            }
+        }
+        invalidateIf(changed);
+    }
+
+    /**
+     * 以資料庫重新建立進行中集合與排程
+     * 查詢前記下目前的世代，查詢結果只套用在之後未被變更事件重新排程或移除的專案上
+     */
+    void resync() {
+        try {
+            long snapshotGeneration = generationSequence.get();
+            LocalDateTime now = LocalDateTime.now();
+            List<ProjectRepository.ProjectWindow> windows = projectRepository.findApprovedWindowsEndingAfter(now);
+            Set<Long> scheduled = new HashSet<>();
+            boolean changed = false;
+            synchronized (lock) {
+                for (ProjectRepository.ProjectWindow window : windows) {
+                    scheduled.add(window.getId());
+                    if (!isNewerThan(window.getId(), snapshotGeneration)) {
+                        changed |= schedule(window.getId(), window.getStartDate(), window.getEndDate());
+                    }
+                }
+                Set<Long> known = new HashSet<>(schedules.keySet());
+                known.addAll(activeIds);
+                for (Long projectId : known) {
+                    if (!scheduled.contains(projectId) && !isNewerThan(projectId, snapshotGeneration)) {
+                        schedules.remove(projectId);
+                        changed |= activeIds.remove(projectId);
+                    }
+                }
+            }
+            invalidateIf(changed);
+            log.info("進行中專案登錄表已同步 - 排程專案數: {}, 進行中: {}", scheduled.size(), activeIds.size());
+        } catch (RuntimeException e) {
+            log.error("進行中專案登錄表同步失敗", e);
+        }
+    }
+
+    /**
+     * 依募資期間排程專案的開始與結束；募資期間未變更時沿用既有排程，呼叫端須持有 {@link #lock}
+     *
+     * @return 進行中集合是否變動
+     */
+    private boolean schedule(Long projectId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null) {
+            return false;
+        }
+        ProjectSchedule existing = schedules.get(projectId);
+        if (existing != null && Objects.equals(existing.startDate, startDate)
+                && Objects.equals(existing.endDate, endDate)) {
+            return false;
+        }
+        long generation = generationSequence.incrementAndGet();
+        schedules.put(projectId, new ProjectSchedule(generation, startDate, endDate));
+        long startMs = startDate.atZone(ZONE).toInstant().toEpochMilli();
+        long endMs = endDate.atZone(ZONE).toInstant().toEpochMilli();
+        long now = System.currentTimeMillis();
+
+        if (endMs <= now) {
+            return activeIds.remove(projectId);
+        }
+        timer.schedule(endMs, () -> deactivate(projectId, generation));
+        if (startMs <= now) {
+            return activeIds.add(projectId);
+        }
+        timer.schedule(startMs, () -> activate(projectId, generation));
+        return activeIds.remove(projectId);
+    }
+
+    private void activate(Long projectId, long generation) {
+        boolean changed;
+        synchronized (lock) {
+            changed = isCurrent(projectId, generation) && activeIds.add(projectId);
+        }
+        invalidateIf(changed);
+    }
+
+    private void deactivate(Long projectId, long generation) {
+        boolean changed;
+        synchronized (lock) {
+            changed = isCurrent(projectId, generation) && activeIds.remove(projectId);
+        }
+        invalidateIf(changed);
+    }
+
+    private void invalidateIf(boolean changed) {
+        if (changed) {
+            projectPageCache.invalidate(List.of(ProjectPageCache.REGION_ACTIVE));
+        }
+    }
+
+    /**
+     * 專案是否在同步查詢開始之後才由變更事件重新排程或移除
+     */
+    private boolean isNewerThan(Long projectId, long snapshotGeneration) {
+        ProjectSchedule current = schedules.get(projectId);
+        return current != null && current.generation > snapshotGeneration;
+    }
+
+    private boolean isCurrent(Long projectId, long generation) {
+        ProjectSchedule current = schedules.get(projectId);
+        return current != null && current.generation == generation;
+    }
+
+    /**
+     * 專案排程（世代與募資期間）；募資期間為 null 表示已由變更事件移除
+     */
+    private static final class ProjectSchedule {
+
+        private final long generation;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+
+        ProjectSchedule(long generation, LocalDateTime startDate, LocalDateTime endDate) {
+            this.generation = generation;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+    }
+}
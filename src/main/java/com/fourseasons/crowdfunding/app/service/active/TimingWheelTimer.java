@@ -0,0 +1,208 @@
+package com.fourseasons.crowdfunding.app.service.active;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 階層式時間輪計時器
+ * 最底層每格 tickMs、共 wheelSize 格，超出範圍的任務放入上層（每格為下層一圈）的時間輪，
+ * 到期前逐層降級；新增任務為 O(1)，延遲佇列只存放非空的格子，
+ * 驅動執行緒在沒有到期格子時休眠，不需要輪詢
+ */
+@Slf4j
+class TimingWheelTimer {
+
+    private final TimingWheel wheel;
+    private final DelayQueue<Bucket> delayQueue = new DelayQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Thread driver;
+    private volatile boolean running = true;
+
+    TimingWheelTimer(String name, long tickMs, int wheelSize) {
+        this.wheel = new TimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+        this.driver = new Thread(this::drive, name);
+        this.driver.setDaemon(true);
+        this.driver.start();
+    }
+
+    /**
+     * 排程任務；到期時間已過則立即在呼叫端執行
+     * 
+     * @param expirationMs 到期時間（epoch 毫秒）
+     * @param task         任務
+     */
+    void schedule(long expirationMs, Runnable task) {
+        TimerEntry entry = new TimerEntry(expirationMs, task);
+        boolean added;
+        lock.lock();
+        try {
+            added = wheel.add(entry);
+        } finally {
+            lock.unlock();
+        }
+        if (!added) {
+            run(entry);
+        }
+    }
+
+    void shutdown() {
+        running = false;
+        driver.interrupt();
+    }
+
+    /**
+     * 驅動執行緒：等待最早到期的格子，推進時鐘並把格子內的任務執行或降級到下層
+     */
+    private void drive() {
+        while (running) {
+            try {
+                Bucket bucket = delayQueue.take();
+                List<TimerEntry> due = new ArrayList<>();
+                lock.lock();
+                try {
+                    while (bucket != null) {
+                        wheel.advanceClock(bucket.getExpiration());
+                        for (TimerEntry entry : bucket.drain()) {
+                            if (!wheel.add(entry)) {
+                                due.add(entry);
+                            }
+                        }
+                        bucket = delayQueue.poll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                due.forEach(this::run);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void run(TimerEntry entry) {
+        try {
+            entry.task.run();
+        } catch (RuntimeException e) {
+            log.error("時間輪任務執行失敗", e);
+        }
+    }
+
+    /**
+     * 單層時間輪
+     */
+    private final class TimingWheel {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private long currentTime;
+        private TimingWheel overflowWheel;
+
+        TimingWheel(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        /**
+         * 加入任務
+         * 
+         * @return false 表示已到期（不足一格），應立即執行
+         */
+        boolean add(TimerEntry entry) {
+            long expiration = entry.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                // 格子重新使用（新一圈）時才需要重新放入延遲佇列
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflowWheel == null) {
+                overflowWheel = new TimingWheel(interval, wheelSize, currentTime);
+            }
+            return overflowWheel.add(entry);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflowWheel != null) {
+                    overflowWheel.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * 時間輪的一格（同一到期時間區間的任務）
+     */
+    private static final class Bucket implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1L);
+        private List<TimerEntry> entries = new ArrayList<>();
+
+        void add(TimerEntry entry) {
+            entries.add(entry);
+        }
+
+        /**
+         * @return true 表示到期時間有變更
+         */
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        List<TimerEntry> drain() {
+            List<TimerEntry> drained = entries;
+            entries = new ArrayList<>();
+            expiration.set(-1L);
+            return drained;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(expiration.get() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration.get(), ((Bucket) other).expiration.get());
+        }
+    }
+
+    private static final class TimerEntry {
+
+        private final long expirationMs;
+        private final Runnable task;
+
+        TimerEntry(long expirationMs, Runnable task) {
+            this.expirationMs = expirationMs;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import com.fourseasons.crowdfunding.app.dto.common.ResourceVersion;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 快取的專案列表頁（內容、總筆數與列表版本，可序列化為 JSON 存入 Redis）
+ * 版本於載入時計算一次，作為列表端點的 ETag
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedProjectPage {
+
+    private List<ProjectResponse> content;
+    private long totalElements;
+    private String version;
+
+    /**
+     * 建立列表頁並計算版本
+     */
+    public static CachedProjectPage of(List<ProjectResponse> content, long totalElements) {
+        return new CachedProjectPage(content, totalElements, ResourceVersion.ofCollection(content, totalElements,
+                ProjectResponse::getId, ProjectResponse::getUpdatedAt));
+    }
+}
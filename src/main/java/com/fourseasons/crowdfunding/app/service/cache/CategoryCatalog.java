@@ -0,0 +1,174 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import com.fourseasons.crowdfunding.app.dto.common.ResourceVersion;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCategoryResponse;
+import com.fourseasons.crowdfunding.app.entity.ProjectCategory;
+import com.fourseasons.crowdfunding.app.repository.ProjectCategoryRepository;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 專案分類目錄（程式內快照）
+ * 分類數量少且極少變更，整份目錄以不可變快照保存，讀取不需要查詢資料庫；
+ * 分類新增、更新、刪除後整份重建並以單一參考替換（copy-on-write），
+ * 另於快照超過重新整理間隔時重新載入，涵蓋其他節點的變更
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryCatalog {
+
+    private final ProjectCategoryRepository categoryRepository;
+
+    @Value("${category.catalog.refresh-interval:5m}")
+    private Duration refreshInterval;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 取得目前快照；首次使用或超過重新整理間隔時重新載入
+     *
+     * @return 分類快照
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reloadLock.lock();
+            try {
+                return snapshot != null ? snapshot : load();
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        // 過期時由一個呼叫端重新載入，其他呼叫端繼續使用舊快照
+        if (System.nanoTime() - current.loadedAtNanos > refreshInterval.toNanos() && reloadLock.tryLock()) {
+            try {
+                return load();
+            } catch (RuntimeException e) {
+                log.warn("重新載入分類目錄失敗，沿用目前快照", e);
+                return current;
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 根據 ID 查詢分類（含已停用分類）
+     *
+     * @param categoryId 分類ID，可為 null
+     * @return 分類，不存在時為 null
+     */
+    public ProjectCategoryResponse find(Long categoryId) {
+        return categoryId != null ? current().getById().get(categoryId) : null;
+    }
+
+    /**
+     * 分類異動後重建快照
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            load();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 從資料庫載入並替換快照（呼叫端須持有 reloadLock）
+     */
+    private Snapshot load() {
+        long previousVersion = snapshot != null ? snapshot.version : 0;
+        Snapshot loaded = new Snapshot(previousVersion + 1, categoryRepository.findAll());
+        snapshot = loaded;
+        log.debug("分類目錄已載入 - 版本: {}, 分類數: {}", loaded.version, loaded.byId.size());
+        return loaded;
+    }
+
+    /**
+     * 分類目錄的不可變快照
+     */
+    @Getter
+    public static final class Snapshot {
+
+        /** 快照版本（每次重建遞增） */
+        private final long version;
+
+        /** 分類ID → 分類 */
+        private final Map<Long, ProjectCategoryResponse> byId;
+
+        /** 分類名稱 → 分類ID */
+        private final Map<String, Long> idByName;
+
+        /** 啟用中的分類（依 ID 排序） */
+        private final List<ProjectCategoryResponse> activeCategories;
+
+        /** 啟用中分類列表的版本（ETag） */
+        private final String activeVersion;
+
+        /** 全部分類（含已停用）的版本，內嵌分類資訊的回應以此併入 ETag */
+        private final String catalogVersion;
+
+        /** 全部分類中最晚的更新時間 */
+        private final LocalDateTime lastUpdatedAt;
+
+        @Getter(AccessLevel.NONE)
+        private final long loadedAtNanos = System.nanoTime();
+
+        Snapshot(long version, List<ProjectCategory> categories) {
+            Map<Long, ProjectCategoryResponse> byId = new HashMap<>();
+            Map<String, Long> idByName = new HashMap<>();
+            List<ProjectCategoryResponse> all = new ArrayList<>();
+            List<ProjectCategoryResponse> active = new ArrayList<>();
+            categories.stream()
+                    .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                    .forEach(category -> {
+                        ProjectCategoryResponse response = new ProjectCategoryResponse(
+                                category.getId(),
+                                category.getName(),
+                                category.getDescription(),
+                                category.isActive(),
+                                category.getCreatedAt(),
+                                category.getUpdatedAt());
+                        byId.put(category.getId(), response);
+                        all.add(response);
+                        idByName.put(category.getName(), category.getId());
+                        if (category.isActive()) {
+                            active.add(response);
+                        }
+                    });
+            this.version = version;
+            this.byId = Collections.unmodifiableMap(byId);
+            this.idByName = Collections.unmodifiableMap(idByName);
+            this.activeCategories = Collections.unmodifiableList(active);
+            this.activeVersion = ResourceVersion.ofCollection(active, active.size(),
+                    ProjectCategoryResponse::getCategoryId, ProjectCategoryResponse::getUpdatedAt);
+            this.catalogVersion = ResourceVersion.ofCollection(all, all.size(),
+                    ProjectCategoryResponse::getCategoryId, ProjectCategoryResponse::getUpdatedAt);
+            this.lastUpdatedAt = all.stream()
+                    .map(ProjectCategoryResponse::getUpdatedAt)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 單機版專案列表頁快取（僅程式內 Caffeine）
+ * 預設實作；多節點部署時請改用 redis，讓所有節點同步失效
+ * 與 Redis 版相同，快取鍵帶區域版本：失效時先遞增版本再清除，載入期間遇到失效的結果寫在舊版本鍵下，
+ * 並由 {@link SingleFlight} 依版本撤回，不會在失效之後留下舊列表頁
+ */
+@Component
+@ConditionalOnProperty(name = "project.page-cache.store", havingValue = "local", matchIfMissing = true)
+public class LocalProjectPageCache implements ProjectPageCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${project.page-cache.max-size:2000}")
+    private long maxSize;
+
+    @Value("${project.page-cache.ttl:30s}")
+    private Duration ttl;
+
+    /**
+     * 區域:版本|查詢鍵 → 列表頁
+     */
+    private Cache<String, CachedProjectPage> pages;
+
+    private final SingleFlight<String, CachedProjectPage> loads = new SingleFlight<>();
+
+    /**
+     * 區域 → 版本（失效時遞增）
+     */
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "projectPages");
+    }
+
+    @Override
+    public CachedProjectPage get(String region, String key, Supplier<CachedProjectPage> loader) {
+        AtomicLong version = versions.computeIfAbsent(region, r -> new AtomicLong());
+        return loads.get(pages, region + ":" + version.get() + "|" + key, loader, version::get);
+    }
+
+    @Override
+    public void invalidate(Collection<String> regions) {
+        for (String region : regions) {
+            versions.computeIfAbsent(region, r -> new AtomicLong()).incrementAndGet();
+            String prefix = region + ":";
+            pages.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 公開專案列表頁快取
+ * 快取項目依區域（公開列表、進行中、各分類）分組，專案變更時以區域為單位失效
+ */
+public interface ProjectPageCache {
+
+    /** 已核准的公開列表（含關鍵字搜尋） */
+    String REGION_PUBLIC = "public";
+
+    /** 進行中的專案 */
+    String REGION_ACTIVE = "active";
+
+    /**
+     * 分類列表區域
+     */
+    static String categoryRegion(Long categoryId) {
+        return "category:" + categoryId;
+    }
+
+    /**
+     * 讀取快取，未命中時以載入函式查詢並寫入
+     * 
+     * @param region 區域
+     * @param key    區域內的查詢鍵
+     * @param loader 載入函式
+     * @return 列表頁
+     */
+    CachedProjectPage get(String region, String key, Supplier<CachedProjectPage> loader);
+
+    /**
+     * 失效指定區域的所有快取項目
+     * 
+     * @param regions 區域
+     */
+    void invalidate(Collection<String> regions);
+}
@@ -0,0 +1,42 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.event.ProjectChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 專案變更後失效受影響的列表頁快取
+ * 專案新增、編輯、狀態變更與刪除都會發布 {@link ProjectChangedEvent}，於交易提交後處理
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectPageCacheInvalidator {
+
+    private final ProjectPageCache projectPageCache;
+
+    /**
+     * 分類列表包含所有狀態的專案，一律失效；
+     * 公開列表與進行中列表只包含已核准的專案，僅在變更後（或刪除前）為已核准時失效
+     * 
+     * @param event 專案變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        List<String> regions = new ArrayList<>(3);
+        if (event.getCategoryId() != null) {
+            regions.add(ProjectPageCache.categoryRegion(event.getCategoryId()));
+        }
+        if (event.getStatus() == Project.ProjectStatus.APPROVED) {
+            regions.add(ProjectPageCache.REGION_PUBLIC);
+            regions.add(ProjectPageCache.REGION_ACTIVE);
+        }
+        if (!regions.isEmpty()) {
+            projectPageCache.invalidate(regions);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 兩層專案列表頁快取（本地 Caffeine 近端快取 + Redis 共享快取）
+ * Redis 鍵帶有區域版本號，失效時只需遞增版本（舊鍵交由 TTL 清除），
+ * 並透過 pub/sub 通知所有節點更新版本、丟棄近端快取中的舊項目；
+ * Redis 無法連線時直接查詢資料庫，不影響服務
+ */
+@Component
+@ConditionalOnProperty(name = "project.page-cache.store", havingValue = "redis")
+public class RedisProjectPageCache implements ProjectPageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisProjectPageCache.class);
+
+    private static final String KEY_PREFIX = "projects:page:";
+    private static final String VERSION_PREFIX = "projects:page-version:";
+    private static final String CHANNEL = "projects:page-invalidate";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${project.page-cache.max-size:2000}")
+    private long maxSize;
+
+    @Value("${project.page-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${project.page-cache.near-ttl:5s}")
+    private Duration nearTtl;
+
+    /**
+     * 近端快取（區域:版本|查詢鍵 → 列表頁）
+     */
+    private Cache<String, CachedProjectPage> nearCache;
+
+    private final SingleFlight<String, CachedProjectPage> loads = new SingleFlight<>();
+
+    /**
+     * 本節點已知的區域版本
+     */
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 建立近端快取並訂閱失效通知
+     */
+    @PostConstruct
+    void init() {
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(nearTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "projectPages");
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidated(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Override
+    public CachedProjectPage get(String region, String key, Supplier<CachedProjectPage> loader) {
+        String versionedKey = region + ":" + currentVersion(region) + "|" + key;
+        return loads.get(nearCache, versionedKey, () -> readThrough(KEY_PREFIX + versionedKey, loader));
+    }
+
+    @Override
+    public void invalidate(Collection<String> regions) {
+        for (String region : regions) {
+            try {
+                Long version = redisTemplate.opsForValue().increment(VERSION_PREFIX + region);
+                redisTemplate.convertAndSend(CHANNEL, region + "|" + version);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to publish project page invalidation for region {}", region, e);
+            }
+            // 本節點不等待通知回傳，立即丟棄
+            dropLocal(region);
+        }
+    }
+
+    /**
+     * 從 Redis 讀取，未命中時載入並回寫
+     */
+    private CachedProjectPage readThrough(String redisKey, Supplier<CachedProjectPage> loader) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey);
+            if (json != null) {
+                return objectMapper.readValue(json, CachedProjectPage.class);
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            logger.warn("Failed to read project page cache {}", redisKey, e);
+        }
+
+        CachedProjectPage page = loader.get();
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(page), ttl);
+        } catch (RuntimeException | JsonProcessingException e) {
+            logger.warn("Failed to write project page cache {}", redisKey, e);
+        }
+        return page;
+    }
+
+    /**
+     * 取得區域目前版本（首次使用時從 Redis 讀取）
+     */
+    private long currentVersion(String region) {
+        // 不在 computeIfAbsent 內查詢 Redis，避免在 ConcurrentHashMap 的鎖內阻塞
+        Long known = versions.get(region);
+        if (known != null) {
+            return known;
+        }
+        long version;
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_PREFIX + region);
+            version = value != null ? Long.parseLong(value) : 0L;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read project page cache version for region {}", region, e);
+            version = 0L;
+        }
+        Long raced = versions.putIfAbsent(region, version);
+        return raced != null ? raced : version;
+    }
+
+    /**
+     * 收到其他節點（或本節點）的失效通知：格式為「區域|新版本」
+     */
+    private void onInvalidated(String message) {
+        int separator = message.lastIndexOf('|');
+        String region = message.substring(0, separator);
+        long version = Long.parseLong(message.substring(separator + 1));
+        versions.merge(region, version, Math::max);
+        String prefix = region + ":";
+        nearCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 丟棄本節點的區域版本與近端快取，下次讀取時重新取得版本
+     */
+    private void dropLocal(String region) {
+        versions.remove(region);
+        String prefix = region + ":";
+        nearCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+}
@@ -0,0 +1,92 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 快取未命中時的同鍵載入合併（single flight）
+ * 載入在快取的鎖外執行，同一鍵同時只有一個呼叫端查詢，其他呼叫端等待其結果。
+ * Caffeine 的 get(key, mappingFunction) 在 ConcurrentHashMap 的 synchronized 區塊內執行載入，
+ * 載入若是阻塞 I/O，在 Java 21 虛擬執行緒上會釘住載體執行緒，因此查詢資料庫或 Redis 的載入改用此類別；
+ * 載入期間可能發生失效，呼叫端可提供世代（失效時遞增），世代改變時撤回載入結果的寫入
+ *
+ * @param <K> 快取鍵
+ * @param <V> 快取值
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 讀取快取，未命中時載入並寫回
+     *
+     * @param cache  快取
+     * @param key    快取鍵
+     * @param loader 載入函式（可能阻塞）
+     * @return 快取值
+     */
+    public V get(Cache<K, V> cache, K key, Supplier<V> loader) {
+        return get(cache, key, loader, () -> 0L);
+    }
+
+    /**
+     * 讀取快取，未命中時載入並寫回；載入期間世代改變時不保留寫入的值
+     * 失效端須先遞增世代再清除快取：寫入後世代仍相同則失效端的清除必定在寫入之後，
+     * 否則由這裡撤回，兩種順序都不會留下載入期間已失效的值
+     *
+     * @param cache      快取
+     * @param key        快取鍵
+     * @param loader     載入函式（可能阻塞）
+     * @param generation 目前的世代
+     * @return 快取值
+     */
+    public V get(Cache<K, V> cache, K key, Supplier<V> loader, LongSupplier generation) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> pending = inFlight.putIfAbsent(key, call);
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            long started = generation.getAsLong();
+            V value = loader.get();
+            if (value != null) {
+                cache.put(key, value);
+                if (generation.getAsLong() != started) {
+                    cache.asMap().remove(key, value);
+                }
+            }
+            call.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 失效時呼叫：之後的呼叫端不再等待失效前開始的載入，而是重新載入
+     *
+     * @param key 快取鍵
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+}
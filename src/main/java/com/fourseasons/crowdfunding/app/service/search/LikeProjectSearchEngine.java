@@ -0,0 +1,42 @@
+package com.fourseasons.crowdfunding.app.service.search;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 以資料庫 LIKE 比對的搜尋引擎（預設，不需要額外索引）
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeProjectSearchEngine implements ProjectSearchEngine {
+
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public Page<Project> search(String keyword, Long categoryId, Project.ProjectStatus status, Pageable pageable) {
+        return projectRepository.searchProjectsAdvanced(keyword, categoryId, status, pageable);
+    }
+
+    @Override
+    public Slice<ProjectSummary> searchByCursor(String keyword, Long categoryId, Project.ProjectStatus status,
+            ProjectCursor after, Sort.Direction direction, int size) {
+        return projectRepository.searchProjectsAdvancedByCursor(keyword, categoryId, status, after, direction,
+                PageRequest.of(0, size));
+    }
+
+    @Override
+    public long count(String keyword, Long categoryId, Project.ProjectStatus status) {
+        return projectRepository.countProjectsAdvanced(keyword, categoryId, status);
+    }
+}
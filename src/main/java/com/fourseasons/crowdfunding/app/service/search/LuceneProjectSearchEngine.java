@@ -0,0 +1,452 @@
+package com.fourseasons.crowdfunding.app.service.search;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectIndexEntry;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.event.ProjectChangedEvent;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 程式內 Lucene 搜尋引擎
+ * 啟動時由資料庫建立記憶體索引，之後依專案變更事件即時更新；
+ * 變更事件只在發生變更的節點觸發，因此另以定期補同步讓每個節點的索引收斂到資料庫：
+ * 重新索引最近更新的專案，並移除資料庫中已刪除的專案（多節點時其他節點的變更最多延遲一個補同步間隔）；
+ * 使用 CJK 二元分詞處理中文，標題比對的權重高於描述；
+ * 另以數值欄位索引建立時間與專案 ID，供游標分頁依 (createdAt, id) 排序與續查
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneProjectSearchEngine implements ProjectSearchEngine {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CATEGORY = "categoryId";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_ID_NUMERIC = "idNumeric";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    /**
+     * 補同步往前多讀的時間，涵蓋節點間的時鐘誤差與上次補同步時尚未提交的交易
+     */
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+
+    private final ProjectRepository projectRepository;
+    private final RankedProjectLoader rankedProjectLoader;
+
+    /**
+     * 補同步間隔（0 表示停用，只適用於單節點部署）
+     */
+    @Value("${search.lucene.resync-interval:5m}")
+    private Duration resyncInterval;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService resyncExecutor;
+
+    /**
+     * 上次補同步（或初次載入）開始的時間，只由補同步執行緒更新
+     */
+    private volatile LocalDateTime lastSyncStartedAt;
+
+    /**
+     * 建立索引並載入所有專案，之後定期補同步
+     */
+    @PostConstruct
+    void init() throws IOException {
+        indexWriter = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        lastSyncStartedAt = LocalDateTime.now();
+        long count = 0;
+        long afterId = 0;
+        List<ProjectIndexEntry> batch;
+        do {
+            batch = projectRepository.findIndexEntriesAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ProjectIndexEntry entry : batch) {
+                indexWriter.addDocument(toDocument(entry.getId(), entry.getTitle(), entry.getDescription(),
+                        entry.getStatus(), entry.getCategoryId(), entry.getCreatedAt()));
+                afterId = entry.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        searcherManager.maybeRefresh();
+        log.info("Lucene 專案索引建立完成 - 筆數: {}", count);
+
+        if (resyncInterval != null && !resyncInterval.isZero()) {
+            resyncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "lucene-index-resync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            resyncExecutor.scheduleWithFixedDelay(this::resync, resyncInterval.toMillis(),
+                    resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (resyncExecutor != null) {
+            resyncExecutor.shutdownNow();
+        }
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    /**
+     * 補同步：重新索引上次補同步之後更新過的專案，並移除資料庫中已不存在的專案
+     */
+    void resync() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            int updated = reindexUpdatedSince(lastSyncStartedAt.minus(CATCH_UP_OVERLAP));
+            // 比對筆數前先讓補同步的寫入可見，否則新增與刪除的筆數可能互相抵銷
+            searcherManager.maybeRefreshBlocking();
+            int removed = removeDeleted();
+            searcherManager.maybeRefresh();
+            lastSyncStartedAt = startedAt;
+            if (updated > 0 || removed > 0) {
+                log.info("Lucene 專案索引補同步完成 - 更新: {}, 移除: {}", updated, removed);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Lucene 專案索引補同步失敗，下次補同步時重試", e);
+        }
+    }
+
+    /**
+     * 重新索引指定時間之後更新過的專案
+     *
+     * @return 重新索引的筆數
+     */
+    private int reindexUpdatedSince(LocalDateTime since) throws IOException {
+        int count = 0;
+        long afterId = 0;
+        List<ProjectIndexEntry> batch;
+        do {
+            batch = projectRepository.findIndexEntriesUpdatedSince(since, afterId,
+                    PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ProjectIndexEntry entry : batch) {
+                indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(entry.getId())),
+                        toDocument(entry.getId(), entry.getTitle(), entry.getDescription(), entry.getStatus(),
+                                entry.getCategoryId(), entry.getCreatedAt()));
+                afterId = entry.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return count;
+    }
+
+    /**
+     * 依 ID 區段比對資料庫與索引的筆數，索引較多的區段找出已刪除的專案並移除
+     *
+     * @return 移除的筆數
+     */
+    private int removeDeleted() throws IOException {
+        int removed = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = projectRepository.findIdsAfter(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            long upTo = ids.size() == LOAD_BATCH_SIZE ? ids.get(ids.size() - 1) : Long.MAX_VALUE;
+            removed += removeDeleted(afterId + 1, upTo, new HashSet<>(ids));
+            if (!ids.isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == LOAD_BATCH_SIZE);
+        return removed;
+    }
+
+    private int removeDeleted(long fromId, long toId, Set<Long> existing) throws IOException {
+        Query range = LongPoint.newRangeQuery(FIELD_ID_NUMERIC, fromId, toId);
+        List<Long> stale = new ArrayList<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int indexed = searcher.count(range);
+            if (indexed <= existing.size()) {
+                return 0;
+            }
+            StoredFields storedFields = searcher.storedFields();
+            for (ScoreDoc hit : searcher.search(range, indexed).scoreDocs) {
+                Long id = Long.valueOf(storedFields.document(hit.doc).get(FIELD_ID));
+                if (!existing.contains(id)) {
+                    stale.add(id);
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        // 讀取 ID 之後才新增並已由變更事件索引的專案不可移除
+        stale.removeAll(projectRepository.findExistingIds(stale));
+        for (Long id : stale) {
+            indexWriter.deleteDocuments(new Term(FIELD_ID, String.valueOf(id)));
+        }
+        return stale.size();
+    }
+
+    /**
+     * 專案變更後（交易提交後）更新索引
+     * 
+     * @param event 專案變更事件
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        try {
+            Term idTerm = new Term(FIELD_ID, String.valueOf(event.getProjectId()));
+            if (event.isDeleted()) {
+                indexWriter.deleteDocuments(idTerm);
+            } else {
+                indexWriter.updateDocument(idTerm, toDocument(event.getProjectId(), event.getTitle(),
+                        event.getDescription(), event.getStatus(), event.getCategoryId(), event.getCreatedAt()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("更新 Lucene 專案索引失敗 - 專案ID: {}", event.getProjectId(), e);
+        }
+    }
+
+    @Override
+    public Page<Project> search(String keyword, Long categoryId, Project.ProjectStatus status, Pageable pageable) {
+        BooleanQuery.Builder query = buildQuery(keyword, categoryId, status);
+        if (query == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query built = query.build();
+                int total = searcher.count(built);
+                int offset = (int) pageable.getOffset();
+                if (offset >= total) {
+                    return new PageImpl<>(List.of(), pageable, total);
+                }
+
+                TopDocs topDocs = searcher.search(built, offset + pageable.getPageSize());
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(pageable.getPageSize());
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = offset; i < hits.length; i++) {
+                    ids.add(Long.valueOf(storedFields.document(hits[i].doc).get(FIELD_ID)));
+                }
+                return rankedProjectLoader.load(ids, total, pageable);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Slice<ProjectSummary> searchByCursor(String keyword, Long categoryId, Project.ProjectStatus status,
+            ProjectCursor after, Sort.Direction direction, int size) {
+        BooleanQuery.Builder query = buildQuery(keyword, categoryId, status);
+        if (query == null) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+
+        boolean ascending = direction == Sort.Direction.ASC;
+        if (after != null) {
+            // (createdAt, id) 在游標位置之後：createdAt 較後，或 createdAt 相同且 ID 較後
+            long createdAt = toMicros(after.getCreatedAt());
+            long id = after.getId();
+            Query laterCreated = ascending
+                    ? LongPoint.newRangeQuery(FIELD_CREATED_AT, createdAt + 1, Long.MAX_VALUE)
+                    : LongPoint.newRangeQuery(FIELD_CREATED_AT, Long.MIN_VALUE, createdAt - 1);
+            Query sameCreatedLaterId = new BooleanQuery.Builder()
+                    .add(LongPoint.newExactQuery(FIELD_CREATED_AT, createdAt), BooleanClause.Occur.FILTER)
+                    .add(ascending
+                            ? LongPoint.newRangeQuery(FIELD_ID_NUMERIC, id + 1, Long.MAX_VALUE)
+                            : LongPoint.newRangeQuery(FIELD_ID_NUMERIC, Long.MIN_VALUE, id - 1),
+                            BooleanClause.Occur.FILTER)
+                    .build();
+            query.add(new BooleanQuery.Builder()
+                    .add(laterCreated, BooleanClause.Occur.SHOULD)
+                    .add(sameCreatedLaterId, BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.FILTER);
+        }
+        org.apache.lucene.search.Sort sort = new org.apache.lucene.search.Sort(
+                new SortField(FIELD_CREATED_AT, SortField.Type.LONG, !ascending),
+                new SortField(FIELD_ID_NUMERIC, SortField.Type.LONG, !ascending));
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), size + 1, sort);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc hit : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc).get(FIELD_ID)));
+                }
+                return rankedProjectLoader.loadSlice(ids, size);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long count(String keyword, Long categoryId, Project.ProjectStatus status) {
+        BooleanQuery.Builder query = buildQuery(keyword, categoryId, status);
+        if (query == null) {
+            return 0;
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(query.build());
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 建立關鍵字與篩選條件查詢
+     * 
+     * @return 查詢，關鍵字切不出任何詞時為 null
+     */
+    private BooleanQuery.Builder buildQuery(String keyword, Long categoryId, Project.ProjectStatus status) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        // 每個詞都必須出現在標題或描述中
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            Query inTitle = new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST);
+            Query inDescription = new TermQuery(new Term(FIELD_DESCRIPTION, term));
+            query.add(new BooleanQuery.Builder()
+                    .add(inTitle, BooleanClause.Occur.SHOULD)
+                    .add(inDescription, BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        if (categoryId != null) {
+            query.add(new TermQuery(new Term(FIELD_CATEGORY, String.valueOf(categoryId))), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(FIELD_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        return query;
+    }
+
+    /**
+     * 建立索引文件
+     */
+    private Document toDocument(Long id, String title, String description, Project.ProjectStatus status,
+            Long categoryId, LocalDateTime createdAt) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(id), Field.Store.YES));
+        document.add(new LongPoint(FIELD_ID_NUMERIC, id));
+        document.add(new NumericDocValuesField(FIELD_ID_NUMERIC, id));
+        if (createdAt != null) {
+            long micros = toMicros(createdAt);
+            document.add(new LongPoint(FIELD_CREATED_AT, micros));
+            document.add(new NumericDocValuesField(FIELD_CREATED_AT, micros));
+        }
+        document.add(new TextField(FIELD_TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, description != null ? description : "", Field.Store.NO));
+        if (status != null) {
+            document.add(new StringField(FIELD_STATUS, status.name(), Field.Store.NO));
+        }
+        if (categoryId != null) {
+            document.add(new StringField(FIELD_CATEGORY, String.valueOf(categoryId), Field.Store.NO));
+        }
+        return document;
+    }
+
+    /**
+     * 建立時間轉為微秒（與資料庫 DATETIME(6) 的精度相同，游標位置可精確比對）
+     */
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    /**
+     * 以索引相同的分詞器切分關鍵字
+     */
+    private Set<String> analyze(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_TITLE, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+}
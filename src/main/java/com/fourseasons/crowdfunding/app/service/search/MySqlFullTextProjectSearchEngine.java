@@ -0,0 +1,116 @@
+package com.fourseasons.crowdfunding.app.service.search;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT 搜尋引擎
+ * 使用 ngram 解析器建立標題與描述的全文索引，支援中文內容，並依 MATCH 分數排序
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext")
+public class MySqlFullTextProjectSearchEngine implements ProjectSearchEngine {
+
+    private static final String INDEX_NAME = "ft_project_title_description";
+
+    private static final String MATCH = "MATCH(p.title, p.description) AGAINST (:keyword IN BOOLEAN MODE)";
+
+    private static final String FILTER = " FROM projects p WHERE " + MATCH +
+            " AND (:categoryId IS NULL OR p.category_id = :categoryId)" +
+            " AND (:status IS NULL OR p.status = :status)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final RankedProjectLoader rankedProjectLoader;
+
+    /**
+     * 建立全文索引（ddl-auto 不會建立 FULLTEXT 索引）
+     */
+    @PostConstruct
+    void ensureIndex() {
+        Integer existing = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'projects' AND INDEX_NAME = ?",
+                Integer.class, INDEX_NAME);
+        if (existing == null || existing == 0) {
+            log.info("建立專案全文索引 {}", INDEX_NAME);
+            jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE projects ADD FULLTEXT INDEX " + INDEX_NAME +
+                    " (title, description) WITH PARSER ngram");
+        }
+    }
+
+    @Override
+    public Page<Project> search(String keyword, Long categoryId, Project.ProjectStatus status, Pageable pageable) {
+        MapSqlParameterSource params = filterParams(keyword, categoryId, status)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + FILTER, params, Long.class);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT p.project_id" + FILTER + " ORDER BY " + MATCH + " DESC, p.project_id DESC" +
+                        " LIMIT :limit OFFSET :offset",
+                params, Long.class);
+
+        return rankedProjectLoader.load(ids, total != null ? total : 0, pageable);
+    }
+
+    @Override
+    public Slice<ProjectSummary> searchByCursor(String keyword, Long categoryId, Project.ProjectStatus status,
+            ProjectCursor after, Sort.Direction direction, int size) {
+        MapSqlParameterSource params = filterParams(keyword, categoryId, status)
+                .addValue("limit", size + 1);
+
+        String comparison = direction == Sort.Direction.ASC ? ">" : "<";
+        StringBuilder sql = new StringBuilder("SELECT p.project_id").append(FILTER);
+        if (after != null) {
+            sql.append(" AND (p.created_at ").append(comparison).append(" :cursorCreatedAt")
+                    .append(" OR (p.created_at = :cursorCreatedAt AND p.project_id ").append(comparison)
+                    .append(" :cursorId))");
+            params.addValue("cursorCreatedAt", after.getCreatedAt()).addValue("cursorId", after.getId());
+        }
+        sql.append(" ORDER BY p.created_at ").append(direction.name())
+                .append(", p.project_id ").append(direction.name())
+                .append(" LIMIT :limit");
+
+        List<Long> ids = jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+        return rankedProjectLoader.loadSlice(ids, size);
+    }
+
+    @Override
+    public long count(String keyword, Long categoryId, Project.ProjectStatus status) {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + FILTER,
+                filterParams(keyword, categoryId, status), Long.class);
+        return total != null ? total : 0;
+    }
+
+    private static MapSqlParameterSource filterParams(String keyword, Long categoryId,
+            Project.ProjectStatus status) {
+        return new MapSqlParameterSource()
+                .addValue("keyword", toPhrase(keyword))
+                .addValue("categoryId", categoryId)
+                .addValue("status", status != null ? status.name() : null);
+    }
+
+    /**
+     * 將關鍵字轉為布林模式的片語查詢，移除布林運算子以免被解讀為語法
+     */
+    private static String toPhrase(String keyword) {
+        String cleaned = keyword.replaceAll("[\"+\\-<>()~*@]", " ").trim();
+        return "\"" + cleaned + "\"";
+    }
+}
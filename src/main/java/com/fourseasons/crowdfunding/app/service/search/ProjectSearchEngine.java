@@ -0,0 +1,53 @@
+package com.fourseasons.crowdfunding.app.service.search;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 專案全文搜尋引擎
+ * 由 search.engine 設定選擇實作：like（資料庫 LIKE 比對）、fulltext（MySQL FULLTEXT ngram）、
+ * lucene（程式內 Lucene 反向索引）；
+ * 分頁與游標分頁使用同一套比對規則，兩種分頁的搜尋結果一致
+ */
+public interface ProjectSearchEngine {
+
+    /**
+     * 搜尋專案，結果依相關度排序（like 實作沿用分頁參數中的排序）
+     * 
+     * @param keyword    關鍵字（不可為空）
+     * @param categoryId 分類ID（可為 null）
+     * @param status     專案狀態（可為 null）
+     * @param pageable   分頁參數
+     * @return 專案分頁結果
+     */
+    Page<Project> search(String keyword, Long categoryId, Project.ProjectStatus status, Pageable pageable);
+
+    /**
+     * 以游標分頁搜尋專案，依建立時間與專案 ID 排序（不依相關度）
+     * 
+     * @param keyword    關鍵字（不可為空）
+     * @param categoryId 分類ID（可為 null）
+     * @param status     專案狀態（可為 null）
+     * @param after      上一頁最後一筆的位置（第一頁為 null）
+     * @param direction  建立時間排序方向
+     * @param size       每頁大小
+     * @return 專案列表投影
+     */
+    Slice<ProjectSummary> searchByCursor(String keyword, Long categoryId, Project.ProjectStatus status,
+            ProjectCursor after, Sort.Direction direction, int size);
+
+    /**
+     * 計算符合條件的專案數量
+     * 
+     * @param keyword    關鍵字（不可為空）
+     * @param categoryId 分類ID（可為 null）
+     * @param status     專案狀態（可為 null）
+     * @return 專案數量
+     */
+    long count(String keyword, Long categoryId, Project.ProjectStatus status);
+}
@@ -0,0 +1,82 @@
+package com.fourseasons.crowdfunding.app.service.search;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 依搜尋引擎回傳的 ID 順序載入專案
+ */
+@Component
+@RequiredArgsConstructor
+class RankedProjectLoader {
+
+    private final ProjectRepository projectRepository;
+
+    /**
+     * 以一次 IN 查詢載入專案，並保持相關度排序
+     * 
+     * @param rankedIds 依相關度排序的專案 ID
+     * @param total     符合條件的總數
+     * @param pageable  分頁參數
+     * @return 專案分頁結果
+     */
+    Page<Project> load(List<Long> rankedIds, long total, Pageable pageable) {
+        if (rankedIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<Long, Project> byId = projectRepository.findByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<Project> ordered = new ArrayList<>(rankedIds.size());
+        for (Long id : rankedIds) {
+            Project project = byId.get(id);
+            if (project != null) {
+                ordered.add(project);
+            }
+        }
+        return new PageImpl<>(ordered, pageable, total);
+    }
+
+    /**
+     * 以一次 IN 查詢載入列表投影，並保持搜尋引擎回傳的順序（游標分頁使用）
+     * 
+     * @param orderedIds 依排序的專案 ID，最多 size + 1 筆（多出的一筆用於判斷是否有下一頁）
+     * @param size       每頁大小
+     * @return 專案列表投影
+     */
+    Slice<ProjectSummary> loadSlice(List<Long> orderedIds, int size) {
+        boolean hasNext = orderedIds.size() > size;
+        List<Long> ids = hasNext ? orderedIds.subList(0, size) : orderedIds;
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+
+        Map<Long, ProjectSummary> byId = projectRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProjectSummary::getId, Function.identity()));
+
+        List<ProjectSummary> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProjectSummary summary = byId.get(id);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return new SliceImpl<>(ordered, PageRequest.of(0, size), hasNext);
+    }
+}
@@ -0,0 +1,70 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import com.fourseasons.crowdfunding.app.metrics.SqlBudget;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 存取日誌過濾器測試
+ */
+@ExtendWith(MockitoExtension.class)
+class AccessLogFilterTest {
+
+    @Mock
+    private AccessLogWriter accessLogWriter;
+
+    @Mock
+    private SqlBudget sqlBudget;
+
+    private AccessLogFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AccessLogFilter(accessLogWriter, new CurrentUserContext(), sqlBudget);
+    }
+
+    @Test
+    void doFilter_RejectedBySecurityChain_RecordsUnauthorized() throws Exception {
+        when(accessLogWriter.shouldLog(anyInt(), anyBoolean(), anyLong(), anyBoolean())).thenReturn(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/profile");
+        // 模擬安全鏈直接回應 401，請求不會進入 DispatcherServlet
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+        }, (req, res, next) -> ((HttpServletResponse) res).sendError(HttpServletResponse.SC_UNAUTHORIZED));
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        ArgumentCaptor<AccessLogEntry> entry = ArgumentCaptor.forClass(AccessLogEntry.class);
+        verify(accessLogWriter).append(entry.capture());
+        assertEquals(401, entry.getValue().getStatus());
+        assertEquals("/api/user/profile", entry.getValue().getPath());
+        assertNull(entry.getValue().getRoute());
+        assertNull(entry.getValue().getUserId());
+    }
+
+    @Test
+    void doFilter_NonApiPath_IsNotRecorded() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        verify(accessLogWriter, never()).append(any());
+    }
+}
@@ -0,0 +1,117 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 存取日誌環狀緩衝區測試
+ */
+class AccessLogRingBufferTest {
+
+    @Test
+    void capacity_RoundsUpToPowerOfTwo() {
+        assertEquals(8, new AccessLogRingBuffer(5).capacity());
+        assertEquals(8, new AccessLogRingBuffer(8).capacity());
+        assertEquals(16, new AccessLogRingBuffer(9).capacity());
+    }
+
+    @Test
+    void offer_WhenFull_DropsUntilConsumerFreesASlot() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(entry(0, i)));
+        }
+
+        assertFalse(buffer.offer(entry(0, 4)));
+        assertEquals(4, buffer.size());
+
+        assertEquals(0, buffer.poll().getDurationMicros());
+        assertTrue(buffer.offer(entry(0, 5)));
+        assertFalse(buffer.offer(entry(0, 6)));
+    }
+
+    @Test
+    void poll_ReturnsEntriesInOfferOrderAcrossWraparound() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        List<Long> polled = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(entry(0, i)));
+            if (i % 2 == 1) {
+                polled.add(buffer.poll().getDurationMicros());
+                polled.add(buffer.poll().getDurationMicros());
+            }
+        }
+
+        assertNull(buffer.poll());
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), polled);
+    }
+
+    @Test
+    void offerAndPoll_Concurrent_DeliversEachAcceptedEntryOnceInProducerOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(256);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        if (buffer.offer(entry(producer, i))) {
+                            accepted.incrementAndGet();
+                        } else {
+                            dropped.incrementAndGet();
+                            // 讓消費者追上，使測試同時涵蓋滿載丟棄與大量成功寫入
+                            Thread.yield();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+            thread.start();
+        }
+
+        long[] lastSequence = new long[producers];
+        Arrays.fill(lastSequence, -1);
+        int received = 0;
+        start.countDown();
+        while (finished.getCount() > 0 || buffer.size() > 0) {
+            AccessLogEntry entry = buffer.poll();
+            if (entry == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) entry.getTimestampMillis();
+            assertTrue(entry.getDurationMicros() > lastSequence[producer], "同一生產者的順序錯亂");
+            lastSequence[producer] = entry.getDurationMicros();
+            received++;
+        }
+
+        assertEquals(producers * perProducer, accepted.get() + dropped.get());
+        assertEquals(accepted.get(), received);
+        assertNull(buffer.poll());
+    }
+
+    /**
+     * 以時間戳記欄位記錄生產者編號、耗時欄位記錄序號
+     */
+    private static AccessLogEntry entry(int producer, long sequence) {
+        return new AccessLogEntry(producer, "GET", "/api/projects", "/api/projects", 200, sequence, 0, 0, null,
+                "127.0.0.1");
+    }
+}
@@ -0,0 +1,78 @@
+package com.fourseasons.crowdfunding.app.accesslog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 輪替日誌檔測試
+ */
+class RollingFileSinkTest {
+
+    private static final String LINE = "x".repeat(59) + "\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_OverMaxSize_RollsToDatedFile() throws IOException {
+        Path file = dir.resolve("access.log");
+        try (RollingFileSink sink = new RollingFileSink(file, 100, 7)) {
+            sink.write(LINE);
+            sink.write(LINE);
+            sink.write(LINE);
+            sink.flush();
+        }
+
+        Path rolled = dir.resolve("access." + LocalDate.now() + ".0.log");
+        assertEquals(2, Files.readAllLines(rolled).size());
+        assertEquals(1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void roll_KeepsOnlyMaxHistoryFiles() throws IOException {
+        Path file = dir.resolve("access.log");
+        try (RollingFileSink sink = new RollingFileSink(file, 10, 2)) {
+            for (int i = 0; i < 6; i++) {
+                sink.write(LINE);
+            }
+            sink.flush();
+        }
+
+        assertEquals(2, rolledFiles().size());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void roll_AfterDirectoryRemoved_ReopensAndKeepsWriting() throws IOException {
+        Path logDir = dir.resolve("logs");
+        Path file = logDir.resolve("access.log");
+        try (RollingFileSink sink = new RollingFileSink(file, 10, 7)) {
+            sink.write(LINE);
+            sink.flush();
+            Files.delete(file);
+            Files.delete(logDir);
+
+            sink.write(LINE);
+            sink.write(LINE);
+            sink.flush();
+        }
+
+        assertTrue(Files.exists(file));
+        assertFalse(Files.readAllLines(file).isEmpty());
+    }
+
+    private List<Path> rolledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> !path.getFileName().toString().equals("access.log")).toList();
+        }
+    }
+}
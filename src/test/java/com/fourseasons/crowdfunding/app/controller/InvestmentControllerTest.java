@@ -0,0 +1,148 @@
+package com.fourseasons.crowdfunding.app.controller;
+
+import com.fourseasons.crowdfunding.app.accesslog.AccessLogWriter;
+import com.fourseasons.crowdfunding.app.config.SecurityConfig;
+import com.fourseasons.crowdfunding.app.entity.Investment;
+import com.fourseasons.crowdfunding.app.entity.Role;
+import com.fourseasons.crowdfunding.app.entity.User;
+import com.fourseasons.crowdfunding.app.metrics.RequestMetricsFilter;
+import com.fourseasons.crowdfunding.app.metrics.SqlBudget;
+import com.fourseasons.crowdfunding.app.security.AccountStatusCache;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import com.fourseasons.crowdfunding.app.security.JwtUtils;
+import com.fourseasons.crowdfunding.app.security.TokenRevocationStore;
+import com.fourseasons.crowdfunding.app.service.PledgePipeline;
+import com.fourseasons.crowdfunding.app.service.UserDetailsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 投資控制器測試
+ * 投資端點回傳 CompletableFuture，回應在 ASYNC 重新分派時寫出；
+ * 以真實 JWT 確認重新分派時仍保有認證（JWT 過濾器不會在 ASYNC 分派再次執行）
+ */
+@WebMvcTest(controllers = InvestmentController.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = RequestMetricsFilter.class))
+@Import({ SecurityConfig.class, JwtUtils.class })
+class InvestmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @MockitoBean
+    private PledgePipeline pledgePipeline;
+
+    @MockitoBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockitoBean
+    private AccountStatusCache accountStatusCache;
+
+    @MockitoBean
+    private TokenRevocationStore tokenRevocationStore;
+
+    @MockitoBean
+    private AccessLogWriter accessLogWriter;
+
+    @MockitoBean
+    private CurrentUserContext currentUserContext;
+
+    @MockitoBean
+    private SqlBudget sqlBudget;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName(Role.ROLE_MEMBER);
+
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("investor");
+        user.setPassword("{bcrypt}unused");
+        user.setRole(role);
+
+        given(userDetailsService.loadUserByUsername("investor")).willReturn(user);
+        token = jwtUtils.generateToken(user);
+    }
+
+    @Test
+    void pledge_EnqueueMode_StaysAuthenticatedOnAsyncDispatch() throws Exception {
+        PledgePipeline.PendingPledge pledge = mock(PledgePipeline.PendingPledge.class);
+        given(pledge.getPledgeId()).willReturn("pledge-1");
+        given(pledgePipeline.submit(eq(1L), any())).willReturn(pledge);
+        given(pledgePipeline.getDurability()).willReturn(PledgePipeline.Durability.ENQUEUE);
+
+        MvcResult result = mockMvc.perform(post("/api/projects/1/pledges")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":1000}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.pledgeId").value("pledge-1"))
+                .andExpect(jsonPath("$.status").value("ACCEPTED"));
+    }
+
+    @Test
+    void pledge_CommitMode_StaysAuthenticatedOnAsyncDispatch() throws Exception {
+        Investment investment = new Investment();
+        investment.setId(11L);
+        investment.setPledgeId("pledge-2");
+        investment.setAmount(new BigDecimal("1000"));
+        investment.setStatus(Investment.InvestmentStatus.CONFIRMED);
+
+        PledgePipeline.PendingPledge pledge = mock(PledgePipeline.PendingPledge.class);
+        given(pledge.getFuture()).willReturn(CompletableFuture.completedFuture(investment));
+        given(pledgePipeline.submit(eq(1L), any())).willReturn(pledge);
+        given(pledgePipeline.getDurability()).willReturn(PledgePipeline.Durability.COMMIT);
+
+        MvcResult result = mockMvc.perform(post("/api/projects/1/pledges")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":1000}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.investmentId").value(11))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void pledge_WithoutToken_IsRejected() throws Exception {
+        mockMvc.perform(post("/api/projects/1/pledges")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":1000}"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,141 @@
+package com.fourseasons.crowdfunding.app.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 讀寫分離路由測試
+ * 以兩個 H2 記憶體資料庫模擬主庫與副本，各自在 marker 資料表中記錄自己的名稱
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaPool replicaPool;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private Long currentUserId;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds BIGINT)");
+        new JdbcTemplate(replica).execute("DELETE FROM replica_lag");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+
+        replicaPool = new ReplicaPool(Map.of("replica-1", replica), Duration.ofSeconds(5),
+                "SELECT seconds FROM replica_lag");
+        replicaPool.checkAll();
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        jdbcTemplate = new JdbcTemplate(new ReadWriteRoutingDataSource(primary, replicaPool, tracker,
+                () -> currentUserId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writeTransaction_UsesPrimary() {
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica", marker());
+    }
+
+    @Test
+    void readOnlyTransaction_FallsBackToPrimaryWhenReplicaLags() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        replicaPool.checkAll();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    void readOnlyTransaction_UsesPrimaryWithinReadYourWritesWindow() {
+        currentUserId = 42L;
+        tracker.recordWrite(42L);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    void transactionTemplate_RoutesThroughLazyProxyAndStartsReadYourWritesWindowAfterCommit() {
+        currentUserId = 42L;
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaPool, tracker, () -> currentUserId));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        assertEquals("replica", readOnly.execute(status -> marker(template)));
+        assertFalse(tracker.isRecentWriter(42L));
+
+        assertEquals("primary", readWrite.execute(status -> {
+            String name = marker(template);
+            // 提交前尚未開始時間窗
+            assertFalse(tracker.isRecentWriter(42L));
+            return name;
+        }));
+        assertTrue(tracker.isRecentWriter(42L));
+
+        assertEquals("primary", readOnly.execute(status -> marker(template)));
+    }
+
+    @Test
+    void transactionTemplate_RollbackDoesNotStartReadYourWritesWindow() {
+        currentUserId = 42L;
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaPool, tracker, () -> currentUserId));
+        TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+
+        readWrite.executeWithoutResult(status -> {
+            marker(template);
+            status.setRollbackOnly();
+        });
+
+        assertFalse(tracker.isRecentWriter(42L));
+    }
+
+    private String marker() {
+        return marker(jdbcTemplate);
+    }
+
+    private static String marker(JdbcTemplate template) {
+        return template.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fourseasons.crowdfunding.app.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL 指紋測試
+ */
+class SqlFingerprintTest {
+
+    @Test
+    void of_ReplacesLiterals() {
+        assertEquals("select * from users where username = ? and id > ?",
+                SqlFingerprint.of("select * from users where username = 'it''s' and id > 42"));
+    }
+
+    @Test
+    void of_CollapsesInListAndWhitespace() {
+        assertEquals("select p1_0.id from projects p1_0 where p1_0.id in (?)",
+                SqlFingerprint.of("select p1_0.id\n  from projects p1_0\n where p1_0.id in (?, ?,?)"));
+    }
+
+    @Test
+    void of_SameShapeProducesSameFingerprint() {
+        assertEquals(SqlFingerprint.of("select * from projects where id in (1, 2)"),
+                SqlFingerprint.of("select * from projects where id in (7, 8, 9, 10)"));
+    }
+}
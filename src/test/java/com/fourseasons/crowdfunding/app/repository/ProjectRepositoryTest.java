@@ -0,0 +1,208 @@
+package com.fourseasons.crowdfunding.app.repository;
+
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCategoryResponse;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectResponse;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectSummary;
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.entity.ProjectCategory;
+import com.fourseasons.crowdfunding.app.entity.Role;
+import com.fourseasons.crowdfunding.app.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 專案資料存取層測試
+ * 以 Hibernate 統計確認列表查詢轉換為 ProjectResponse 時只執行一次 SQL，
+ * 防止新增欄位或關聯時重新引入 N+1 查詢；投影查詢另外確認不載入任何實體
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProjectRepositoryTest {
+
+    private static final int PROJECT_COUNT = 6;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User firstCreator;
+    private ProjectCategory firstCategory;
+
+    /**
+     * 模擬分類目錄快照（分類資訊不經由關聯載入）
+     */
+    private final Map<Long, ProjectCategoryResponse> categories = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName(Role.ROLE_CREATOR);
+        entityManager.persist(role);
+
+        firstCategory = persistCategory("科技");
+        ProjectCategory otherCategory = persistCategory("藝術");
+
+        // 每個專案使用不同的創建者，N+1 時查詢數會隨筆數增加
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            User creator = new User();
+            creator.setUsername("creator" + i);
+            creator.setEmail("creator" + i + "@example.com");
+            creator.setPassword("password");
+            creator.setRole(role);
+            entityManager.persist(creator);
+            if (i == 0) {
+                firstCreator = creator;
+            }
+
+            Project project = new Project();
+            project.setTitle("專案 " + i);
+            project.setDescription("專案描述 " + i);
+            project.setGoalAmount(new BigDecimal("1000"));
+            project.setCreator(creator);
+            project.setCategory(i % 2 == 0 ? firstCategory : otherCategory);
+            project.setStartDate(LocalDateTime.now().minusDays(1));
+            project.setEndDate(LocalDateTime.now().plusDays(30));
+            project.setStatus(Project.ProjectStatus.APPROVED);
+            entityManager.persist(project);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findApprovedProjects_SingleStatement() {
+        assertSingleStatement(PROJECT_COUNT,
+                () -> projectRepository.findApprovedProjects(null, PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void searchProjectsAdvanced_SingleStatement() {
+        assertSingleStatement(PROJECT_COUNT,
+                () -> projectRepository.searchProjectsAdvanced(null, null, null, PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void findActiveProjects_SingleStatement() {
+        assertSingleStatement(PROJECT_COUNT, () -> projectRepository.findActiveProjects());
+    }
+
+    @Test
+    void findByCategory_SingleStatement() {
+        assertSingleStatement(PROJECT_COUNT / 2, () -> projectRepository.findByCategory_Id(firstCategory.getId()));
+    }
+
+    @Test
+    void findByCreatorId_SingleStatement() {
+        assertSingleStatement(1,
+                () -> projectRepository.findByCreator_Id(firstCreator.getId(), PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void findApprovedSummaries_NoManagedEntities() {
+        assertSummaries(PROJECT_COUNT,
+                () -> projectRepository.findApprovedSummaries(PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void findApprovedByCursor_NoManagedEntities() {
+        assertSummaries(PROJECT_COUNT,
+                () -> projectRepository.findApprovedByCursor(null, Sort.Direction.DESC, PageRequest.of(0, 10))
+                        .getContent());
+    }
+
+    @Test
+    void findApprovedByCursor_WalksAllPagesWithoutGapsOrDuplicates() {
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            List<Long> ids = new ArrayList<>();
+            ProjectCursor after = null;
+            Slice<ProjectSummary> page;
+            do {
+                page = projectRepository.findApprovedByCursor(after, direction, PageRequest.of(0, 4));
+                page.forEach(summary -> ids.add(summary.getId()));
+                ProjectSummary last = page.getContent().get(page.getNumberOfElements() - 1);
+                after = ProjectCursor.of(last, direction, "approved");
+            } while (page.hasNext());
+
+            List<Long> expected = projectRepository.findApprovedByCursor(null, direction, PageRequest.of(0, 10))
+                    .map(ProjectSummary::getId).getContent();
+            assertEquals(PROJECT_COUNT, ids.size());
+            assertEquals(expected, ids);
+        }
+    }
+
+    @Test
+    void findActiveSummaries_NoManagedEntities() {
+        assertSummaries(PROJECT_COUNT, () -> projectRepository.findActiveSummaries());
+    }
+
+    @Test
+    void findSummariesByCreatorId_NoManagedEntities() {
+        assertSummaries(1,
+                () -> projectRepository.findSummariesByCreatorId(firstCreator.getId(), PageRequest.of(0, 10))
+                        .getContent());
+    }
+
+    /**
+     * 執行實體查詢並轉換為回應 DTO，確認只執行一次 SQL
+     */
+    private void assertSingleStatement(int expectedSize, Supplier<List<Project>> query) {
+        assertResponses(expectedSize, query, project -> ProjectResponse.fromProject(project, categories::get));
+    }
+
+    /**
+     * 執行投影查詢並轉換為回應 DTO，確認只執行一次 SQL 且沒有載入任何實體
+     */
+    private void assertSummaries(int expectedSize, Supplier<List<ProjectSummary>> query) {
+        assertResponses(expectedSize, query, summary -> ProjectResponse.fromSummary(summary, categories::get));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private <T> void assertResponses(int expectedSize, Supplier<List<T>> query, Function<T, ProjectResponse> mapper) {
+        statistics.clear();
+
+        List<ProjectResponse> responses = query.get().stream().map(mapper).toList();
+
+        assertEquals(expectedSize, responses.size());
+        responses.forEach(response -> {
+            assertNotNull(response.getCreator().getRole());
+            assertNotNull(response.getCategory());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private ProjectCategory persistCategory(String name) {
+        ProjectCategory category = new ProjectCategory();
+        category.setName(name);
+        ProjectCategory persisted = entityManager.persist(category);
+        categories.put(persisted.getId(), new ProjectCategoryResponse(persisted.getId(), name, null, true, null, null));
+        return persisted;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fourseasons.crowdfunding.app.repository;
+
+import com.fourseasons.crowdfunding.app.entity.Role;
+import com.fourseasons.crowdfunding.app.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 使用者資料存取層測試
+ */
+@DataJpaTest
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Role role;
+
+    @BeforeEach
+    void setUp() {
+        role = new Role();
+        role.setName(Role.ROLE_CREATOR);
+        entityManager.persist(role);
+    }
+
+    @Test
+    void findIdByLogin_UsernameEqualsAnotherUsersEmail_PrefersUsername() {
+        User byEmail = persistUser("alice", "shared@example.com");
+        User byUsername = persistUser("shared@example.com", "bob@example.com");
+
+        // 與登入驗證相同：使用者名稱相符者優先，不會因兩筆相符而拋出例外
+        assertEquals(Optional.of(byUsername.getId()), userRepository.findIdByLogin("shared@example.com"));
+        assertEquals(Optional.of(byEmail.getId()), userRepository.findIdByLogin("alice"));
+        assertEquals(Optional.empty(), userRepository.findIdByLogin("nobody"));
+    }
+
+    private User persistUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        return entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 帳號狀態快取測試
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountStatusCacheTest {
+
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AccountStatusCache accountStatusCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accountStatusCache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(accountStatusCache, "maxEntries", 100);
+        accountStatusCache.init();
+    }
+
+    @Test
+    void isActive_RejectsRoleClaimThatNoLongerMatches() {
+        when(userRepository.findActiveRoleName(eq(USER_ID), any())).thenReturn(Optional.of("USER"));
+
+        assertTrue(accountStatusCache.isActive(USER_ID, "USER"));
+        assertFalse(accountStatusCache.isActive(USER_ID, "ADMIN"));
+        verify(userRepository, times(1)).findActiveRoleName(eq(USER_ID), any());
+    }
+
+    @Test
+    void isActive_InvalidationDuringLoad_DoesNotCacheStaleStatus() {
+        when(userRepository.findActiveRoleName(eq(USER_ID), any()))
+                .thenAnswer(invocation -> {
+                    // 載入期間角色被取消（交易提交後的失效事件）
+                    accountStatusCache.invalidate(USER_ID);
+                    return Optional.of("ADMIN");
+                })
+                .thenReturn(Optional.of("USER"));
+
+        assertTrue(accountStatusCache.isActive(USER_ID, "ADMIN"));
+        assertFalse(accountStatusCache.isActive(USER_ID, "ADMIN"));
+        verify(userRepository, times(2)).findActiveRoleName(eq(USER_ID), any());
+    }
+}
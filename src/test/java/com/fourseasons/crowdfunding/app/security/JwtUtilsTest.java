@@ -0,0 +1,113 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import com.fourseasons.crowdfunding.app.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JWT 工具類測試
+ */
+class JwtUtilsTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtUtils jwtUtils;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "expiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtils, "keyId", "v1");
+        ReflectionTestUtils.setField(jwtUtils, "activeKeyId", "v1");
+        ReflectionTestUtils.setField(jwtUtils, "legacyKeyId", "v1");
+        jwtUtils.init();
+
+        testUser = new User();
+        testUser.setId(7L);
+        testUser.setUsername("testuser");
+    }
+
+    @Test
+    void verifyToken_ReturnsClaimsSnapshot() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtUtils.CLAIM_USER_ID, 7L);
+        claims.put(JwtUtils.CLAIM_ROLE, "MEMBER");
+        String token = jwtUtils.generateToken(testUser, claims);
+
+        Optional<JwtClaims> result = jwtUtils.verifyToken(token);
+
+        assertTrue(result.isPresent());
+        assertEquals("testuser", result.get().getSubject());
+        assertEquals(7L, result.get().getUserId());
+        assertEquals("MEMBER", result.get().getRole());
+        assertNotNull(result.get().getExpiration());
+    }
+
+    @Test
+    void verifyToken_RejectsTamperedToken() {
+        String token = jwtUtils.generateToken(testUser);
+
+        assertTrue(jwtUtils.verifyToken(token + "x").isEmpty());
+    }
+
+    @Test
+    void keyRing_KeepsOldTokensValidUntilRemovedFromConfig() {
+        String oldToken = jwtUtils.generateToken(testUser);
+
+        JwtUtils rotated = newJwtUtils(Map.of("v1", SECRET, "v2", SECRET + "-rotated"), "v2", "v1");
+        String newToken = rotated.generateToken(testUser);
+
+        assertTrue(rotated.verifyToken(oldToken).isPresent());
+        assertTrue(rotated.verifyToken(newToken).isPresent());
+        assertTrue(jwtUtils.verifyToken(newToken).isEmpty());
+
+        JwtUtils retired = newJwtUtils(Map.of("v2", SECRET + "-rotated"), "v2", "");
+
+        assertTrue(retired.verifyToken(oldToken).isEmpty());
+        assertTrue(retired.verifyToken(newToken).isPresent());
+    }
+
+    @Test
+    void keylessToken_UsesLegacyKeyNotActiveKey() {
+        String keyless = Jwts.builder()
+                .setSubject("testuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        JwtUtils rotated = newJwtUtils(Map.of("v1", SECRET, "v2", SECRET + "-rotated"), "v2", "v1");
+        JwtUtils strict = newJwtUtils(Map.of("v1", SECRET, "v2", SECRET + "-rotated"), "v2", "");
+
+        assertTrue(rotated.verifyToken(keyless).isPresent());
+        assertTrue(strict.verifyToken(keyless).isEmpty());
+    }
+
+    @Test
+    void init_RejectsUnknownActiveKey() {
+        assertThrows(IllegalStateException.class, () -> newJwtUtils(Map.of("v1", SECRET), "v2", "v1"));
+    }
+
+    private static JwtUtils newJwtUtils(Map<String, String> keys, String activeKeyId, String legacyKeyId) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "expiration", 60_000L);
+        ReflectionTestUtils.setField(utils, "keys", keys);
+        ReflectionTestUtils.setField(utils, "activeKeyId", activeKeyId);
+        ReflectionTestUtils.setField(utils, "legacyKeyId", legacyKeyId);
+        utils.init();
+        return utils;
+    }
+}
@@ -0,0 +1,53 @@
+package com.fourseasons.crowdfunding.app.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prometheus 抓取憑證過濾器測試
+ */
+class ScrapeTokenAuthenticationFilterTest {
+
+    private final ScrapeTokenAuthenticationFilter filter = new ScrapeTokenAuthenticationFilter("scrape-secret");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_MatchingTokenOnScrapePath_AuthenticatesAsMetrics() throws Exception {
+        filter.doFilter(request(ScrapeTokenAuthenticationFilter.SCRAPE_PATH, "Bearer scrape-secret"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("ROLE_" + ScrapeTokenAuthenticationFilter.ROLE_METRICS,
+                authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void doFilter_WrongTokenOrOtherPath_DoesNotAuthenticate() throws Exception {
+        filter.doFilter(request(ScrapeTokenAuthenticationFilter.SCRAPE_PATH, "Bearer wrong"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        filter.doFilter(request("/actuator/slowqueries", "Bearer scrape-secret"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest request(String path, String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
@@ -1,5 +1,8 @@
 package com.fourseasons.crowdfunding.app.service;
 
+import com.fourseasons.crowdfunding.app.dto.common.CountMode;
+import com.fourseasons.crowdfunding.app.dto.common.CursorPage;
+import com.fourseasons.crowdfunding.app.dto.project.ProjectCursor;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectRequest;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectResponse;
 import com.fourseasons.crowdfunding.app.dto.project.ProjectStatusRequest;
@@ -10,6 +13,12 @@ import com.fourseasons.crowdfunding.app.exception.ResourceNotFoundException;
 import com.fourseasons.crowdfunding.app.exception.UnauthorizedException;
 import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
 import com.fourseasons.crowdfunding.app.repository.UserRepository;
+import com.fourseasons.crowdfunding.app.security.CurrentUser;
+import com.fourseasons.crowdfunding.app.security.CurrentUserContext;
+import com.fourseasons.crowdfunding.app.service.cache.CachedProjectPage;
+import com.fourseasons.crowdfunding.app.service.cache.CategoryCatalog;
+import com.fourseasons.crowdfunding.app.service.cache.ProjectPageCache;
+import com.fourseasons.crowdfunding.app.service.search.ProjectSearchEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,17 +29,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,10 +57,16 @@ class ProjectServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private Authentication authentication;
+    private ProjectSearchEngine projectSearchEngine;
 
     @Mock
-    private SecurityContext securityContext;
+    private ProjectPageCache projectPageCache;
+
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private CurrentUserContext currentUserContext;
 
     @InjectMocks
     private ProjectService projectService;
@@ -77,6 +94,8 @@ class ProjectServiceTest {
         testProject.setCurrentAmount(BigDecimal.ZERO);
         testProject.setCreator(testUser);
         testProject.setStatus(Project.ProjectStatus.DRAFT);
+        testProject.setStartDate(LocalDateTime.now().plusDays(1));
+        testProject.setEndDate(LocalDateTime.now().plusDays(31));
         testProject.setCreatedAt(LocalDateTime.now());
         testProject.setUpdatedAt(LocalDateTime.now());
 
@@ -85,17 +104,13 @@ class ProjectServiceTest {
         projectRequest.setTitle("新專案");
         projectRequest.setDescription("這是一個新專案");
         projectRequest.setGoalAmount(new BigDecimal("50000"));
-
-        // 設置 Security Context
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-        when(authentication.getName()).thenReturn("testuser");
     }
 
     @Test
     void createProject_Success() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_MEMBER);
+        when(userRepository.getReferenceById(1L)).thenReturn(testUser);
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // Act
@@ -113,7 +128,7 @@ class ProjectServiceTest {
     @Test
     void getProjectById_Success() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_MEMBER);
         when(projectRepository.findByIdWithCreator(1L)).thenReturn(Optional.of(testProject));
 
         // Act
@@ -128,7 +143,6 @@ class ProjectServiceTest {
     @Test
     void getProjectById_NotFound() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
         when(projectRepository.findByIdWithCreator(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -140,7 +154,7 @@ class ProjectServiceTest {
     @Test
     void updateProject_Success() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_MEMBER);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
@@ -160,7 +174,7 @@ class ProjectServiceTest {
         otherUser.setUsername("otheruser");
         testProject.setCreator(otherUser);
 
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_MEMBER);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
 
         // Act & Assert
@@ -172,7 +186,7 @@ class ProjectServiceTest {
     @Test
     void deleteProject_Success() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_MEMBER);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
 
         // Act
@@ -187,8 +201,10 @@ class ProjectServiceTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
         Page<Project> projectPage = new PageImpl<>(List.of(testProject), pageable, 1);
-        when(projectRepository.findApprovedProjects(anyString(), any(Pageable.class)))
+        when(projectSearchEngine.search(eq("test"), isNull(), eq(Project.ProjectStatus.APPROVED), any(Pageable.class)))
                 .thenReturn(projectPage);
+        when(projectPageCache.get(eq(ProjectPageCache.REGION_PUBLIC), eq("test|0|10|UNSORTED"), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<CachedProjectPage>>getArgument(2).get());
 
         // Act
         Page<ProjectResponse> response = projectService.getPublicProjects("test", pageable);
@@ -201,13 +217,12 @@ class ProjectServiceTest {
     @Test
     void updateProjectStatus_Success() {
         // Arrange
-        testUser.setRole(new Role());
         testProject.setStatus(Project.ProjectStatus.PENDING);
 
         ProjectStatusRequest statusRequest = new ProjectStatusRequest();
         statusRequest.setStatus(Project.ProjectStatus.APPROVED);
 
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_ADMIN);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
@@ -223,7 +238,7 @@ class ProjectServiceTest {
     @Test
     void submitProjectForReview_Success() {
         // Arrange
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        givenCurrentUser(Role.ROLE_MEMBER);
         when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
@@ -235,4 +250,44 @@ class ProjectServiceTest {
         assertEquals(Project.ProjectStatus.PENDING.name(), response.getStatus());
         verify(projectRepository).save(any(Project.class));
     }
+
+    @Test
+    void searchProjectsByCursor_WithKeyword_UsesSearchEngine() {
+        // Arrange
+        when(projectSearchEngine.searchByCursor("test", 2L, null, null, Sort.Direction.DESC, 10))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+        // Act
+        CursorPage<ProjectResponse> page = projectService.searchProjectsByCursor("test", 2L, null, null, 10,
+                Sort.Direction.DESC, CountMode.NONE);
+
+        // Assert
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(projectSearchEngine).searchByCursor("test", 2L, null, null, Sort.Direction.DESC, 10);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void searchProjectsByCursor_RejectsCursorFromOtherQueryOrDirection() {
+        // Arrange
+        String cursor = ProjectCursor.of(testProject, Sort.Direction.DESC, "search|test|null|null").encode();
+
+        // Act & Assert
+        IllegalArgumentException otherKeyword = assertThrows(IllegalArgumentException.class,
+                () -> projectService.searchProjectsByCursor("other", null, null, cursor, 10,
+                        Sort.Direction.DESC, CountMode.NONE));
+        assertEquals("分頁游標與目前的排序方向或查詢條件不符", otherKeyword.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> projectService.searchProjectsByCursor("test", null, null, cursor, 10,
+                        Sort.Direction.ASC, CountMode.NONE));
+        verifyNoInteractions(projectSearchEngine, projectRepository);
+    }
+
+    /**
+     * 設定目前使用者（testUser）
+     */
+    private void givenCurrentUser(String role) {
+        when(currentUserContext.get()).thenReturn(new CurrentUser(testUser.getId(), testUser.getUsername(), role));
+    }
 }
@@ -0,0 +1,171 @@
+package com.fourseasons.crowdfunding.app.service.active;
+
+import com.fourseasons.crowdfunding.app.entity.Project;
+import com.fourseasons.crowdfunding.app.event.ProjectChangedEvent;
+import com.fourseasons.crowdfunding.app.repository.ProjectRepository;
+import com.fourseasons.crowdfunding.app.service.cache.ProjectPageCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 進行中專案登錄表測試
+ * 以 10ms 刻度的時間輪驗證專案在開始、結束時間到點時加入與移出進行中集合
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ActiveProjectRegistryTest {
+
+    private static final long TIMEOUT_MS = 2_000;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectPageCache projectPageCache;
+
+    private ActiveProjectRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ActiveProjectRegistry(projectRepository, projectPageCache);
+        ReflectionTestUtils.setField(registry, "tickMs", 10L);
+        ReflectionTestUtils.setField(registry, "wheelSize", 8);
+        ReflectionTestUtils.setField(registry, "resyncInterval", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    @Test
+    void start_ProjectInsideWindow_IsActiveUntilEnd() {
+        LocalDateTime now = LocalDateTime.now();
+        givenWindows(window(1L, now.minusDays(1), now.plusNanos(Duration.ofMillis(300).toNanos())));
+
+        registry.start();
+
+        assertEquals(List.of(1L), registry.getActiveProjectIds());
+        awaitTrue(() -> registry.getActiveProjectIds().isEmpty());
+        verify(projectPageCache, atLeastOnce()).invalidate(List.of(ProjectPageCache.REGION_ACTIVE));
+    }
+
+    @Test
+    void start_FutureProject_ActivatesAtStartTime() {
+        LocalDateTime now = LocalDateTime.now();
+        givenWindows(window(2L, now.plusNanos(Duration.ofMillis(200).toNanos()), now.plusDays(1)));
+
+        registry.start();
+
+        assertTrue(registry.getActiveProjectIds().isEmpty());
+        awaitTrue(() -> registry.getActiveProjectIds().contains(2L));
+    }
+
+    @Test
+    void onProjectChanged_Rescheduled_IgnoresStaleStartTask() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        givenWindows(window(3L, now.plusNanos(Duration.ofMillis(100).toNanos()), now.plusDays(1)));
+        registry.start();
+
+        // 開始時間延後一天：原本 100ms 後的開始任務到點時應因世代不符而略過
+        registry.onProjectChanged(event(3L, Project.ProjectStatus.APPROVED, now.plusDays(1), now.plusDays(2)));
+        Thread.sleep(300);
+
+        assertTrue(registry.getActiveProjectIds().isEmpty());
+    }
+
+    @Test
+    void onProjectChanged_NoLongerApproved_DeactivatesImmediately() {
+        LocalDateTime now = LocalDateTime.now();
+        givenWindows(window(4L, now.minusDays(1), now.plusDays(1)));
+        registry.start();
+        assertEquals(List.of(4L), registry.getActiveProjectIds());
+
+        registry.onProjectChanged(event(4L, Project.ProjectStatus.REJECTED, now.minusDays(1), now.plusDays(1)));
+
+        assertTrue(registry.getActiveProjectIds().isEmpty());
+    }
+
+    @Test
+    void resync_EventsDuringQuery_AreNotOverwrittenByStaleSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        givenWindows(window(6L, now.minusDays(1), now.plusDays(1)));
+        registry.start();
+
+        // 查詢進行中：專案 5 剛核准、專案 6 剛下架，查詢結果仍是舊的
+        when(projectRepository.findApprovedWindowsEndingAfter(any())).thenAnswer(invocation -> {
+            registry.onProjectChanged(event(5L, Project.ProjectStatus.APPROVED, now.minusDays(1), now.plusDays(1)));
+            registry.onProjectChanged(event(6L, Project.ProjectStatus.REJECTED, now.minusDays(1), now.plusDays(1)));
+            return List.of(window(6L, now.minusDays(1), now.plusDays(1)));
+        });
+        registry.resync();
+
+        assertEquals(List.of(5L), registry.getActiveProjectIds());
+    }
+
+    private void givenWindows(ProjectRepository.ProjectWindow... windows) {
+        when(projectRepository.findApprovedWindowsEndingAfter(any())).thenReturn(List.of(windows));
+    }
+
+    private static ProjectRepository.ProjectWindow window(Long id, LocalDateTime start, LocalDateTime end) {
+        return new ProjectRepository.ProjectWindow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getStartDate() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndDate() {
+                return end;
+            }
+        };
+    }
+
+    private static ProjectChangedEvent event(Long id, Project.ProjectStatus status, LocalDateTime start,
+            LocalDateTime end) {
+        Project project = new Project();
+        project.setId(id);
+        project.setStatus(status);
+        project.setStartDate(start);
+        project.setEndDate(end);
+        return new ProjectChangedEvent(ActiveProjectRegistryTest.class, project, false);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("條件未在 " + TIMEOUT_MS + "ms 內成立");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("等待時被中斷");
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fourseasons.crowdfunding.app.service.active;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 階層式時間輪測試
+ * 最底層每格 10ms、共 8 格（一圈 80ms），第二層每格 80ms（一圈 640ms），第三層每格 640ms；
+ * 任務最早可在所屬格子的起點（到期時間前不足一格）執行，上限保留排程延遲的餘裕
+ */
+class TimingWheelTimerTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+    private static final long SLACK_MS = 500;
+
+    private TimingWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new TimingWheelTimer("timing-wheel-test", TICK_MS, WHEEL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdown();
+    }
+
+    @Test
+    void schedule_NearDeadline_RunsOnLowestWheel() throws InterruptedException {
+        assertFiresAround(System.currentTimeMillis() + 50);
+    }
+
+    @Test
+    void schedule_BeyondLowestWheel_CascadesFromOverflowWheel() throws InterruptedException {
+        assertFiresAround(System.currentTimeMillis() + 300);
+    }
+
+    @Test
+    void schedule_BeyondSecondWheel_CascadesThroughTwoOverflowWheels() throws InterruptedException {
+        assertFiresAround(System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void schedule_AlreadyExpired_RunsImmediatelyOnCallerThread() {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        timer.schedule(System.currentTimeMillis() - 1_000, () -> ranOn.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), ranOn.get());
+    }
+
+    @Test
+    void schedule_WithinCurrentTick_RunsImmediatelyOnCallerThread() {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        timer.schedule(System.currentTimeMillis(), () -> ranOn.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), ranOn.get());
+    }
+
+    @Test
+    void schedule_TasksAcrossWheels_RunInDeadlineOrder() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+        long[] delays = { 700, 40, 250, 120 };
+        for (long delay : delays) {
+            int key = (int) delay;
+            timer.schedule(now + delay, () -> {
+                order.add(key);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(700 + SLACK_MS, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(40, 120, 250, 700), order);
+    }
+
+    @Test
+    void schedule_FailingTask_DoesNotStopDriver() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        CountDownLatch done = new CountDownLatch(1);
+        timer.schedule(now + 30, () -> {
+            throw new IllegalStateException("boom");
+        });
+        timer.schedule(now + 60, done::countDown);
+
+        assertTrue(done.await(60 + SLACK_MS, TimeUnit.MILLISECONDS));
+    }
+
+    private void assertFiresAround(long expirationMs) throws InterruptedException {
+        AtomicLong firedAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timer.schedule(expirationMs, () -> {
+            firedAt.set(System.currentTimeMillis());
+            fired.countDown();
+        });
+
+        long timeout = expirationMs - System.currentTimeMillis() + SLACK_MS;
+        assertTrue(fired.await(timeout, TimeUnit.MILLISECONDS), "任務未在期限內執行");
+        assertTrue(firedAt.get() >= expirationMs - TICK_MS,
+                "任務提早執行 " + (expirationMs - firedAt.get()) + "ms");
+    }
+}
@@ -0,0 +1,56 @@
+package com.fourseasons.crowdfunding.app.service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 單機版專案列表頁快取測試
+ */
+class LocalProjectPageCacheTest {
+
+    private LocalProjectPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LocalProjectPageCache();
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+        cache.init();
+    }
+
+    @Test
+    void get_InvalidatedDuringLoad_DoesNotKeepStalePage() {
+        CachedProjectPage stale = new CachedProjectPage(List.of(), 1, "stale");
+        CachedProjectPage fresh = new CachedProjectPage(List.of(), 2, "fresh");
+
+        CachedProjectPage loaded = cache.get(ProjectPageCache.REGION_PUBLIC, "page-0", () -> {
+            // 載入期間專案變更並失效此區域
+            cache.invalidate(List.of(ProjectPageCache.REGION_PUBLIC));
+            return stale;
+        });
+
+        assertSame(stale, loaded);
+        assertSame(fresh, cache.get(ProjectPageCache.REGION_PUBLIC, "page-0", () -> fresh));
+    }
+
+    @Test
+    void invalidate_OnlyClearsGivenRegion() {
+        CachedProjectPage publicPage = new CachedProjectPage(List.of(), 1, "public");
+        CachedProjectPage activePage = new CachedProjectPage(List.of(), 1, "active");
+        cache.get(ProjectPageCache.REGION_PUBLIC, "page-0", () -> publicPage);
+        cache.get(ProjectPageCache.REGION_ACTIVE, "page-0", () -> activePage);
+
+        cache.invalidate(List.of(ProjectPageCache.REGION_ACTIVE));
+
+        assertSame(publicPage, cache.get(ProjectPageCache.REGION_PUBLIC, "page-0", () -> null));
+        assertNull(cache.get(ProjectPageCache.REGION_ACTIVE, "page-0", () -> null));
+    }
+}